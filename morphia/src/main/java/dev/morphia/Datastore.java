@@ -17,14 +17,20 @@ import dev.morphia.experimental.MorphiaSession;
 import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.FindAndDeleteOptions;
+import dev.morphia.query.FindByIdsOptions;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
+import dev.morphia.query.internal.MorphiaIdCursor;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
 import org.bson.Document;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.filters.Filters.in;
@@ -203,6 +209,68 @@ public interface Datastore {
      */
     <T> Query<T> find(String collection);
 
+    /**
+     * Finds entities by id.  Large lists of ids are split in to several {@code $in} queries which are run concurrently.
+     *
+     * @param type the class to use for mapping the results
+     * @param ids  the ids to find
+     * @param <T>  the type to query
+     * @param <V>  the type of the ids
+     * @return the cursor over the entities found
+     * @see #findByIds(Class, Iterable, FindByIdsOptions)
+     * @since 2.0
+     */
+    default <T, V> MorphiaIdCursor<T> findByIds(Class<T> type, Iterable<V> ids) {
+        return findByIds(type, ids, new FindByIdsOptions());
+    }
+
+    /**
+     * Finds entities by id.  The ids are split in to batches of {@code $in} queries to stay clear of document size limits and these
+     * queries are run concurrently with a bounded parallelism.  Results are streamed back as each batch completes or, optionally, in
+     * the order of the ids given.  Once the cursor has been exhausted, the ids for which no entity was found can be retrieved via
+     * {@link MorphiaIdCursor#getMissingIds()}.
+     *
+     * @param type    the class to use for mapping the results
+     * @param ids     the ids to find
+     * @param options the options controlling how the ids are batched
+     * @param <T>     the type to query
+     * @param <V>     the type of the ids
+     * @return the cursor over the entities found
+     * @since 2.0
+     */
+    <T, V> MorphiaIdCursor<T> findByIds(Class<T> type, Iterable<V> ids, FindByIdsOptions options);
+
+    /**
+     * Runs a query against the same collection in each of the given databases and merges the results.
+     *
+     * @param query     the query to run
+     * @param databases the names of the databases to query
+     * @param <T>       the type to query
+     * @return the stream of merged results
+     * @see #fanOut(Query, Collection, FindOptions)
+     * @since 2.0
+     */
+    default <T> Stream<T> fanOut(Query<T> query, Collection<String> databases) {
+        return fanOut(query, databases, new FindOptions());
+    }
+
+    /**
+     * Runs a query against the same collection in each of the given databases and merges the results.  This is useful, e.g., when
+     * each tenant of an application has its own database.  The query is run concurrently in up to
+     * {@link FindOptions#fanOutConcurrency(int)} databases at a time and the results are decoded using this datastore's mapping.  If
+     * the options give a sort, the results are merged in sort order.  Any skip and limit apply to the merged results and the remaining
+     * cursors are closed as soon as the limit is reached.  The stream should be closed to release the server cursors unless it is
+     * consumed completely.
+     *
+     * @param query     the query to run
+     * @param databases the names of the databases to query
+     * @param options   the options to apply to the find operations
+     * @param <T>       the type to query
+     * @return the stream of merged results
+     * @since 2.0
+     */
+    <T> Stream<T> fanOut(Query<T> query, Collection<String> databases, FindOptions options);
+
     /**
      * Deletes the given entities based on the query (first item only).
      *
@@ -613,6 +681,16 @@ public interface Datastore {
                                                     .writeConcern(getMapper().getWriteConcern(query.getEntityClass())));
     }
 
+    /**
+     * Eagerly builds the codecs, property codecs and lifecycle method tables of every mapped type and resolves the paths of their
+     * fields.  These are otherwise built on first use which slows the first requests an application serves.
+     *
+     * @param options the options to apply
+     * @return the time taken to prepare each mapped type
+     * @since 2.0
+     */
+    Map<Class<?>, Duration> warmUp(WarmUpOptions options);
+
     /**
      * @param transaction the transaction wrapper
      * @param <T>         the return type
@@ -7,6 +7,7 @@ import com.mongodb.WriteConcern;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.CreateCollectionOptions;
 import com.mongodb.client.model.ReplaceOptions;
@@ -19,30 +20,50 @@ import dev.morphia.annotations.CappedAt;
 import dev.morphia.annotations.Validation;
 import dev.morphia.experimental.MorphiaSession;
 import dev.morphia.experimental.MorphiaSessionImpl;
+import dev.morphia.internal.PathTarget;
 import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.MappedField;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.reader.DocumentReader;
+import dev.morphia.query.FindByIdsOptions;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.UpdateException;
 import dev.morphia.query.ValidationException;
+import dev.morphia.query.internal.MergingCursor;
+import dev.morphia.query.internal.MorphiaCursorSpliterator;
+import dev.morphia.query.internal.MorphiaIdCursor;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.filters.Filters.in;
@@ -74,6 +95,23 @@ public class DatastoreImpl implements AdvancedDatastore {
         this.queryFactory = options.getQueryFactory();
     }
 
+    /**
+     * Creates a datastore for another database which shares the mapping metadata of an existing datastore
+     *
+     * @param datastore the datastore whose mapping to share
+     * @param dbName    the name of the database
+     * @since 2.0
+     */
+    protected DatastoreImpl(final DatastoreImpl datastore, final String dbName) {
+        this.mongoClient = datastore.mongoClient;
+        MongoDatabase database = mongoClient.getDatabase(dbName);
+        this.mapper = new Mapper(this, database.getCodecRegistry(), datastore.mapper);
+
+        this.database = database
+                            .withCodecRegistry(mapper.getCodecRegistry());
+        this.queryFactory = datastore.queryFactory;
+    }
+
     /**
      * Copy constructor for a datastore
      *
@@ -118,7 +156,7 @@ public class DatastoreImpl implements AdvancedDatastore {
         if (!entities.isEmpty()) {
             Class<?> type = entities.get(0).getClass();
             MappedClass mappedClass = mapper.getMappedClass(type);
-            final MongoCollection collection = mapper.getCollection(type);
+            final MongoCollection mongoCollection = mapper.getCollection(type, options.writeConcern(), null, null);
             MappedField versionField = mappedClass.getVersionField();
             if (versionField != null) {
                 for (final T entity : entities) {
@@ -126,7 +164,6 @@ public class DatastoreImpl implements AdvancedDatastore {
                 }
             }
 
-            MongoCollection mongoCollection = options.apply(collection);
             if (options.clientSession() == null) {
                 mongoCollection.insertMany(entities, options.getOptions());
             } else {
@@ -215,6 +252,57 @@ public class DatastoreImpl implements AdvancedDatastore {
         return getQueryFactory().createQuery(this, collection, type);
     }
 
+    @Override
+    public <T, V> MorphiaIdCursor<T> findByIds(final Class<T> type, final Iterable<V> ids, final FindByIdsOptions options) {
+        ClientSession session = findSession(options.getFindOptions());
+        int parallelism = session != null ? 1 : options.getParallelism();
+        return new MorphiaIdCursor<>(ids, options.getBatchSize(), parallelism, options.isPreserveOrder(),
+            batch -> find(type).disableValidation()
+                               .filter(in("_id", batch))
+                               .iterator(options.getFindOptions())
+                               .toList(),
+            mapper::getId, getIdLookupExecutor(session));
+    }
+
+    @Override
+    public <T> Stream<T> fanOut(final Query<T> query, final Collection<String> databases, final FindOptions options) {
+        Class<T> type = query.getEntityClass();
+        String collectionName = mapper.getCollection(type).getNamespace().getCollectionName();
+        Document filter = query.toDocument();
+        ClientSession session = findSession(options);
+        int limit = Math.abs(options.getLimit());
+        FindOptions perDatabase = options.copy()
+                                         .skip(0)
+                                         .limit(limit == 0 ? 0 : options.getSkip() + limit);
+
+        List<Supplier<MongoCursor<RawBsonDocument>>> sources = new ArrayList<>();
+        for (final String name : databases) {
+            MongoCollection<RawBsonDocument> collection = mongoClient.getDatabase(name)
+                                                                     .withCodecRegistry(database.getCodecRegistry())
+                                                                     .withReadPreference(database.getReadPreference())
+                                                                     .withReadConcern(database.getReadConcern())
+                                                                     .getCollection(collectionName, RawBsonDocument.class);
+            sources.add(() -> perDatabase.apply(session == null ? collection.find(filter) : collection.find(session, filter), mapper, type)
+                                         .iterator());
+        }
+
+        Comparator<BsonDocument> comparator = null;
+        if (options.getSort() != null && !options.getSort().isEmpty()) {
+            Document sort = new Document();
+            for (final Entry<String, Object> entry : options.getSort().entrySet()) {
+                boolean validate = entry.getValue() instanceof Number;
+                sort.put(new PathTarget(mapper, type, entry.getKey(), validate).translatedPath(), entry.getValue());
+            }
+            comparator = MergingCursor.comparator(sort);
+        }
+
+        MergingCursor<T> cursor = new MergingCursor<>(sources, comparator, mapper.getCodecRegistry().get(type), options.getSkip(),
+            options.getLimit(), options.getBatchSize(), session == null, mapper.getOptions().getBackgroundExecutor(),
+            options.getFanOutConcurrency());
+        return StreamSupport.stream(new MorphiaCursorSpliterator<>(cursor, options.getLimit(), options.getBatchSize()), false)
+                            .onClose(cursor::close);
+    }
+
     /**
      * @return the Mapper used by this Datastore
      */
@@ -346,10 +434,15 @@ public class DatastoreImpl implements AdvancedDatastore {
             for (final Key key : kindKeys) {
                 objIds.add(key.getId());
             }
-            final List kindResults = find(entry.getKey()).disableValidation()
-                                                         .filter(in("_id", objIds))
-                                                         .iterator()
-                                                         .toList();
+            FindByIdsOptions options = new FindByIdsOptions();
+            int parallelism = getSession() != null ? 1 : options.getParallelism();
+            MorphiaIdCursor<Object> cursor = new MorphiaIdCursor<>(objIds, options.getBatchSize(), parallelism, false,
+                batch -> this.<Object>find(entry.getKey()).disableValidation()
+                                                          .filter(in("_id", batch))
+                                                          .iterator()
+                                                          .toList(),
+                mapper::getId, getIdLookupExecutor(getSession()));
+            final List kindResults = cursor.toList();
             entities.addAll(kindResults);
         }
 
@@ -445,7 +538,7 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
 
         for (Entry<Class, List<T>> entry : grouped.entrySet()) {
-            MongoCollection<T> collection = options.apply(mapper.getCollection(entry.getKey()));
+            MongoCollection<T> collection = mapper.getCollection(entry.getKey(), options.writeConcern(), null, null);
             if (options.clientSession() == null) {
                 collection.insertMany(entry.getValue(), options.getOptions());
             } else {
@@ -575,10 +668,7 @@ public class DatastoreImpl implements AdvancedDatastore {
             ReplaceOptions updateOptions = new ReplaceOptions()
                                                .bypassDocumentValidation(options.getBypassDocumentValidation())
                                                .upsert(true);
-            MongoCollection<T> updated = collection;
-            if (options.writeConcern() != null) {
-                updated = collection.withWriteConcern(options.writeConcern());
-            }
+            MongoCollection<T> updated = options.apply(collection);
             if (clientSession == null) {
                 updated.replaceOne(new Document("_id", id), entity, updateOptions);
             } else {
@@ -614,6 +704,15 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
     }
 
+    /**
+     * @param session the session the lookup is bound to, if any
+     * @return the executor id lookups fetch their batches on.  A session is not safe to use from other threads so lookups bound to one
+     * run every batch on the calling thread.
+     */
+    private Executor getIdLookupExecutor(final ClientSession session) {
+        return session != null ? Runnable::run : mapper.getOptions().getBackgroundExecutor();
+    }
+
     private <T> T doTransaction(final MorphiaSession morphiaSession, final MorphiaTransaction<T> body) {
         try (morphiaSession) {
             return morphiaSession.getSession().withTransaction(() -> body.execute(morphiaSession));
@@ -624,4 +723,39 @@ public class DatastoreImpl implements AdvancedDatastore {
     public <T> void refresh(final T entity) {
         getMapper().refresh(entity);
     }
+
+    @Override
+    public Map<Class<?>, Duration> warmUp(final WarmUpOptions options) {
+        Map<Class<?>, Duration> timings = new LinkedHashMap<>();
+        for (final MappedClass mappedClass : new ArrayList<>(mapper.getMappedClasses())) {
+            long start = System.nanoTime();
+            warmUp(mappedClass, options.getRounds());
+            timings.put(mappedClass.getType(), Duration.ofNanos(System.nanoTime() - start));
+        }
+        return timings;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void warmUp(final MappedClass mappedClass, final int rounds) {
+        EntityModel<?> model = mappedClass.getEntityModel();
+        model.getLifecycleMethods();
+        Codec codec = mapper.getCodecRegistry().get(mappedClass.getType());
+        for (final MappedField field : mappedClass.getFields()) {
+            new PathTarget(mapper, mappedClass, field.getJavaFieldName()).translatedPath();
+        }
+        if (mappedClass.isInterface() || mappedClass.isAbstract() || !model.getLifecycleMethods().isEmpty() || mapper.hasInterceptors()) {
+            return;
+        }
+        try {
+            for (int round = 0; round < rounds; round++) {
+                Document document = new DocumentWriter()
+                                        .encode(mapper.getCodecRegistry(), model.getInstanceCreator().getInstance(),
+                                            EncoderContext.builder().build())
+                                        .getDocument();
+                codec.decode(new DocumentReader(document), DecoderContext.builder().build());
+            }
+        } catch (RuntimeException e) {
+            LOG.warn(Sofia.warmUpFailed(mappedClass.getType().getName()), e);
+        }
+    }
 }
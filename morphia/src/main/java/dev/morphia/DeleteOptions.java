@@ -59,7 +59,7 @@ public final class DeleteOptions extends com.mongodb.client.model.DeleteOptions
      * @since 2.0
      */
     public <T> MongoCollection<T> apply(final MongoCollection<T> collection) {
-        return writeConcern == null
+        return writeConcern == null || writeConcern.equals(collection.getWriteConcern())
                ? collection
                : collection.withWriteConcern(writeConcern);
     }
@@ -45,7 +45,7 @@ public final class FindAndModifyOptions extends FindOneAndUpdateOptions implemen
      * @return either the passed collection or the updated collection
      */
     public <T> MongoCollection<T> apply(final MongoCollection<T> collection) {
-        return writeConcern == null
+        return writeConcern == null || writeConcern.equals(collection.getWriteConcern())
                ? collection
                : collection.withWriteConcern(writeConcern);
     }
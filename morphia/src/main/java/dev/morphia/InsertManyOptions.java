@@ -57,7 +57,7 @@ public class InsertManyOptions implements SessionConfigurable<InsertManyOptions>
      * @since 2.0
      */
     public <T> MongoCollection<T> apply(final MongoCollection<T> collection) {
-        return writeConcern == null
+        return writeConcern == null || writeConcern.equals(collection.getWriteConcern())
                ? collection
                : collection.withWriteConcern(writeConcern);
     }
@@ -126,6 +126,8 @@ public class InsertOneOptions implements SessionConfigurable<InsertOneOptions> {
      * @return the updated collection
      */
     public <T> MongoCollection<T> apply(final MongoCollection<T> collection) {
-        return writeConcern != null ? collection.withWriteConcern(writeConcern) : collection;
+        return writeConcern != null && !writeConcern.equals(collection.getWriteConcern())
+               ? collection.withWriteConcern(writeConcern)
+               : collection;
     }
 }
@@ -4,6 +4,7 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import dev.morphia.mapping.MapperOptions;
+import dev.morphia.sofia.Sofia;
 
 
 /**
@@ -58,4 +59,22 @@ public final class Morphia {
     public static Datastore createDatastore(final MongoClient mongoClient, final String dbName) {
         return createDatastore(mongoClient, dbName, MapperOptions.DEFAULT);
     }
+
+    /**
+     * Creates a Datastore for another database on the same client as an existing Datastore.  The new Datastore shares the mapping
+     * metadata of the existing one rather than mapping every entity again which makes this the cheaper option when many databases
+     * with the same entities are in use, e.g., one database per tenant.
+     *
+     * @param datastore the Datastore whose client and mapping to share
+     * @param dbName    the name of the database
+     * @return a Datastore that you can use to interact with MongoDB
+     * @throws IllegalArgumentException if the Datastore was not created by Morphia
+     * @since 2.0
+     */
+    public static Datastore createDatastore(final Datastore datastore, final String dbName) {
+        if (!(datastore instanceof DatastoreImpl)) {
+            throw new IllegalArgumentException(Sofia.datastoreNotShareable(datastore == null ? null : datastore.getClass().getName()));
+        }
+        return new DatastoreImpl((DatastoreImpl) datastore, dbName);
+    }
 }
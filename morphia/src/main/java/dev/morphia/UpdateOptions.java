@@ -47,7 +47,7 @@ public class UpdateOptions extends com.mongodb.client.model.UpdateOptions
      * @return the potentially updated collection
      */
     public <T> MongoCollection<T> apply(final MongoCollection<T> collection) {
-        return writeConcern == null
+        return writeConcern == null || writeConcern.equals(collection.getWriteConcern())
                ? collection
                : collection.withWriteConcern(writeConcern);
     }
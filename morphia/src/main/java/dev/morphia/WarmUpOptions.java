@@ -0,0 +1,42 @@
+package dev.morphia;
+
+import com.mongodb.assertions.Assertions;
+
+import java.util.StringJoiner;
+
+/**
+ * Defines how the mapped types are prepared by {@link Datastore#warmUp(WarmUpOptions)}.
+ *
+ * @since 2.0
+ */
+public class WarmUpOptions {
+    private int rounds;
+
+    /**
+     * @return the number of synthetic encode/decode rounds to run per type
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Sets the number of times an empty instance of each type is encoded and decoded again.  This exercises the codec paths so they are
+     * compiled before real traffic arrives.  Types with lifecycle methods are skipped, as are all types when entity interceptors are
+     * registered, so that no application code is run against the synthetic instances.  The default is 0.
+     *
+     * @param rounds the number of rounds
+     * @return this
+     */
+    public WarmUpOptions rounds(final int rounds) {
+        Assertions.isTrueArgument("rounds >= 0", rounds >= 0);
+        this.rounds = rounds;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", WarmUpOptions.class.getSimpleName() + "[", "]")
+                   .add("rounds=" + rounds)
+                   .toString();
+    }
+}
@@ -22,6 +22,10 @@ import dev.morphia.aggregation.experimental.stages.Unset;
 import dev.morphia.aggregation.experimental.stages.Unwind;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.MorphiaCursorSpliterator;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @param <T> The initial type of the aggregation.  Used for collection name resolution.
@@ -126,6 +130,35 @@ public interface Aggregation<T> {
      */
     <S> MorphiaCursor<S> execute(Class<S> resultType, AggregationOptions options);
 
+    /**
+     * Execute the aggregation and stream the results.  The stream should be closed to release the server cursor unless it is consumed
+     * completely.
+     *
+     * @param resultType the type of the result
+     * @param <S>        the output type
+     * @return the stream of results
+     * @since 2.0
+     */
+    default <S> Stream<S> stream(Class<S> resultType) {
+        return stream(resultType, new AggregationOptions());
+    }
+
+    /**
+     * Execute the aggregation and stream the results.  Parallel streams split the results one driver batch at a time.  The stream
+     * should be closed to release the server cursor unless it is consumed completely.
+     *
+     * @param resultType the type of the result
+     * @param options    the options to apply
+     * @param <S>        the output type
+     * @return the stream of results
+     * @since 2.0
+     */
+    default <S> Stream<S> stream(Class<S> resultType, AggregationOptions options) {
+        MorphiaCursor<S> cursor = execute(resultType, options);
+        return StreamSupport.stream(new MorphiaCursorSpliterator<>(cursor, 0, options.getBatchSize()), false)
+                            .onClose(cursor::close);
+    }
+
     /**
      * Processes multiple aggregation pipelines within a single stage on the same set of input documents. Each sub-pipeline has its own
      * field in the output document where its results are stored as an array of documents.
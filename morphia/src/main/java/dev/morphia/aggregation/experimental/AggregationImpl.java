@@ -34,7 +34,9 @@ import dev.morphia.aggregation.experimental.stages.Unwind;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.ParallelDecodingCursor;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 
@@ -107,6 +109,12 @@ public class AggregationImpl<T> implements Aggregation<T> {
 
     @Override
     public <R> MorphiaCursor<R> execute(final Class<R> resultType, final AggregationOptions options) {
+        // decoding may load eager references with the session which is not safe to share across threads
+        if (options.parallelDecode() > 0 && datastore.findSession(options) == null) {
+            return new MorphiaCursor<>(new ParallelDecodingCursor<>(
+                options.apply(getDocuments(), collection, RawBsonDocument.class).iterator(),
+                collection.getCodecRegistry().get(resultType), options.parallelDecode()));
+        }
         return new MorphiaCursor<>(options.apply(getDocuments(), collection, resultType)
                                           .iterator());
     }
@@ -3,6 +3,7 @@ package dev.morphia.aggregation.experimental;
 import com.mongodb.ReadConcern;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
+import com.mongodb.assertions.Assertions;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
@@ -28,6 +29,7 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
     private ReadConcern readConcern;
     private WriteConcern writeConcern;
     private Document hint;
+    private int parallelDecode;
 
     /**
      * @return the configuration value
@@ -98,7 +100,7 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
      * @return the configuration value
      */
     public int batchSize() {
-        return batchSize;
+        return batchSize != null ? batchSize : 0;
     }
 
     /**
@@ -197,7 +199,7 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
      * @return the configuration value
      */
     public int getBatchSize() {
-        return batchSize;
+        return batchSize != null ? batchSize : 0;
     }
 
     /**
@@ -261,6 +263,29 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
         return this;
     }
 
+    /**
+     * @return the configuration value
+     * @since 2.0
+     */
+    public int parallelDecode() {
+        return parallelDecode;
+    }
+
+    /**
+     * Decodes results on the common fork-join pool rather than on the calling thread.  Raw documents are read up to {@code readAhead}
+     * documents ahead of the consumer and decoded concurrently while results are still returned in pipeline order.  Aggregations run with a
+     * {@link ClientSession} always decode on the calling thread.
+     *
+     * @param readAhead the maximum number of documents to decode ahead of the consumer.  0 disables parallel decoding.
+     * @return this
+     * @since 2.0
+     */
+    public AggregationOptions parallelDecode(final int readAhead) {
+        Assertions.isTrueArgument("readAhead >= 0", readAhead >= 0);
+        this.parallelDecode = readAhead;
+        return this;
+    }
+
     /**
      * @return the configuration value
      */
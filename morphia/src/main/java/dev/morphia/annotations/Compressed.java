@@ -0,0 +1,36 @@
+package dev.morphia.annotations;
+
+
+import dev.morphia.mapping.codec.CompressedCodec;
+import dev.morphia.mapping.codec.Compressor;
+import dev.morphia.mapping.codec.DeflateCompressor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Compresses the value of a field when its encoded form is larger than a threshold.  Compressed values are stored as binary data and so
+ * can not be queried on the server.  Smaller values are stored as usual.  Values stored before the field was annotated are read as is.
+ *
+ * @see dev.morphia.mapping.codec.CompressionStats
+ * @since 2.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Handler(CompressedCodec.class)
+public @interface Compressed {
+    /**
+     * @return the size in bytes of the encoded value above which it is compressed
+     */
+    int threshold() default 1024;
+
+    /**
+     * @return the compressor to use.  Values can be read back with any compressor found by the {@link java.util.ServiceLoader}.
+     */
+    Class<? extends Compressor> compressor() default DeflateCompressor.class;
+}
@@ -0,0 +1,34 @@
+package dev.morphia.annotations;
+
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Assigns the integer stored for an enum constant.  Once any constant of an enum carries a code the enum is stored as an int32 rather
+ * than by name everywhere it is used, including query filters and updates, and every constant must then be given a distinct code.  Codes
+ * are independent of the declaration order so constants can be added, removed or reordered freely.  Values previously stored by name are
+ * still read.
+ * <pre>
+ * enum Status {
+ *     &#64;EnumCode(1) ACTIVE,
+ *     &#64;EnumCode(2) SUSPENDED,
+ *     &#64;EnumCode(3) CLOSED
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface EnumCode {
+    /**
+     * @return the code to store for this constant
+     */
+    int value();
+}
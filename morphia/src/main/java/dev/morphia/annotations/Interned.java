@@ -0,0 +1,35 @@
+package dev.morphia.annotations;
+
+
+import dev.morphia.mapping.codec.InternedStringCodec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Shares the decoded values of a {@code String} field that only takes a small number of distinct values, e.g., a country code, a currency
+ * or a status.  Values are looked up by their raw bytes in a bounded table so repeated values resolve to the same {@code String} instance
+ * without a new one being created for every document.
+ *
+ * @see dev.morphia.mapping.codec.InternTable
+ * @since 2.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Handler(InternedStringCodec.class)
+public @interface Interned {
+    /**
+     * @return the number of slots in the table.  This is rounded up to a power of two.
+     */
+    int capacity() default 1024;
+
+    /**
+     * @return the length in bytes of the longest value to intern.  Longer values are decoded as usual.
+     */
+    int maxLength() default 64;
+}
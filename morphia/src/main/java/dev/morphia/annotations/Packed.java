@@ -0,0 +1,26 @@
+package dev.morphia.annotations;
+
+
+import dev.morphia.mapping.codec.PackedArrayCodec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Stores a {@code short[]}, {@code char[]}, {@code int[]}, {@code long[]}, {@code float[]} or {@code double[]} field as a single binary
+ * value rather than as an array.  This is far more compact for large arrays and faster to read and write.  Values stored as arrays are
+ * still read so existing documents keep loading and can be converted with {@link dev.morphia.experimental.PackedArrayMigration}.  Packed
+ * values can not be queried element by element on the server.
+ *
+ * @since 2.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Handler(PackedArrayCodec.class)
+public @interface Packed {
+}
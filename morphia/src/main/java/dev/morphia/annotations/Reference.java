@@ -52,6 +52,18 @@ public @interface Reference {
      */
     boolean lazy() default false;
 
+    /**
+     * Lists the fields of the referenced entity to store alongside its ID.  When set, the reference is stored as a document holding
+     * the ID in {@code _id} and the current values of the named fields.  Lazy references are then initialized from these stored
+     * values and only fetched once a property outside this list is accessed.  Queries against such references should target the
+     * {@code _id} subfield.
+     *
+     * @return the names of the referenced entity's fields to store with the reference
+     * @see dev.morphia.mapping.experimental.ReferenceSnapshots
+     * @since 2.0
+     */
+    String[] snapshot() default {};
+
     /**
      * @return The name of the Mongo value to store the field. Defaults to the name of the field being annotated.
      */
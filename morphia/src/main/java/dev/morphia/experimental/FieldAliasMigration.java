@@ -0,0 +1,90 @@
+package dev.morphia.experimental;
+
+import dev.morphia.Datastore;
+import dev.morphia.mapping.AliasNamingStrategy;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.MappedField;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.NamingStrategy;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Renames the fields of existing documents to the aliases assigned by an {@link AliasNamingStrategy}.  This is a {@link Callable} so it
+ * can be run in the background on any executor:
+ * <pre>
+ * Future&lt;Long&gt; converted = executor.submit(new FieldAliasMigration(datastore, Reading.class));
+ * </pre>
+ * The renaming is done on the server with a single {@code $rename} update so documents are never read in to the application.  Only the
+ * fields of the entity itself are aliased, never those of its embedded values, so renaming the top level fields converts the whole
+ * document.  Running the migration again only touches documents still using the previous names.
+ *
+ * @morphia.experimental
+ * @since 2.0
+ */
+public class FieldAliasMigration implements Callable<Long> {
+    private final Datastore datastore;
+    private final Class<?> type;
+    private NamingStrategy previousNaming = NamingStrategy.identity();
+
+    /**
+     * Creates a migration for a type
+     *
+     * @param datastore the datastore to use
+     * @param type      the type whose documents to convert
+     */
+    public FieldAliasMigration(final Datastore datastore, final Class<?> type) {
+        this.datastore = datastore;
+        this.type = type;
+    }
+
+    /**
+     * Sets the field naming strategy used before aliases were enabled.  The default is {@link NamingStrategy#identity()}.
+     *
+     * @param naming the previous strategy
+     * @return this
+     */
+    public FieldAliasMigration previousNaming(final NamingStrategy naming) {
+        this.previousNaming = naming;
+        return this;
+    }
+
+    /**
+     * Renames the fields
+     *
+     * @return the number of documents converted
+     */
+    @Override
+    public Long call() {
+        Mapper mapper = datastore.getMapper();
+        if (!(mapper.getOptions().getFieldNaming() instanceof AliasNamingStrategy)) {
+            return 0L;
+        }
+        MappedClass mappedClass = mapper.getMappedClass(type);
+        Map<String, String> aliases = ((AliasNamingStrategy) mapper.getOptions().getFieldNaming())
+                                          .getAliases(datastore, mappedClass.getCollectionName());
+
+        Document renames = new Document();
+        List<Document> present = new ArrayList<>();
+        for (final MappedField field : mappedClass.getFields()) {
+            String alias = aliases.get(field.getJavaFieldName());
+            String previous = previousNaming.apply(field.getJavaFieldName());
+            if (field.getMappedFieldName().equals(alias) && !alias.equals(previous)) {
+                renames.append(previous, alias);
+                present.add(new Document(previous, new Document("$exists", true)));
+            }
+        }
+        if (renames.isEmpty()) {
+            return 0L;
+        }
+
+        return mapper.getCollection(type)
+                     .withDocumentClass(Document.class)
+                     .updateMany(new Document("$or", present), new Document("$rename", renames))
+                     .getModifiedCount();
+    }
+}
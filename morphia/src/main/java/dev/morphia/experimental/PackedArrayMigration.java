@@ -0,0 +1,119 @@
+package dev.morphia.experimental;
+
+import com.mongodb.assertions.Assertions;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Packed;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.MappedField;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.PackedArrayCodec;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.DecoderContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Converts the {@link Packed} fields of existing documents still stored as arrays in to the packed form.  This is a {@link Callable} so
+ * it can be run in the background on any executor:
+ * <pre>
+ * Future&lt;Long&gt; converted = executor.submit(new PackedArrayMigration(datastore, Series.class));
+ * </pre>
+ * A value is only replaced if it is still an array when the update runs so values written by the application in the meantime are left
+ * alone.  The migration stops early if the running thread is interrupted and can be run again later to pick up where it left off.
+ *
+ * @morphia.experimental
+ * @since 2.0
+ */
+public class PackedArrayMigration implements Callable<Long> {
+    private final Datastore datastore;
+    private final Class<?> type;
+    private int batchSize = 1000;
+
+    /**
+     * Creates a migration for a type
+     *
+     * @param datastore the datastore to use
+     * @param type      the type whose documents to convert
+     */
+    public PackedArrayMigration(final Datastore datastore, final Class<?> type) {
+        this.datastore = datastore;
+        this.type = type;
+    }
+
+    /**
+     * Sets the number of documents to fetch from the server at a time.  The default is 1000.
+     *
+     * @param batchSize the batch size
+     * @return this
+     */
+    public PackedArrayMigration batchSize(final int batchSize) {
+        Assertions.isTrueArgument("batchSize > 0", batchSize > 0);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Converts the documents
+     *
+     * @return the number of values converted
+     */
+    @Override
+    public Long call() {
+        Mapper mapper = datastore.getMapper();
+        MappedClass mappedClass = mapper.getMappedClass(type);
+        List<MappedField> fields = mappedClass.getFields(Packed.class);
+        if (fields.isEmpty()) {
+            return 0L;
+        }
+
+        MongoCollection<BsonDocument> collection = mapper.getCollection(type).withDocumentClass(BsonDocument.class);
+        BsonDocument projection = new BsonDocument();
+        List<BsonValue> arrays = new ArrayList<>();
+        for (final MappedField field : fields) {
+            projection.append(field.getMappedFieldName(), new BsonInt32(1));
+            arrays.add(isArray(field));
+        }
+
+        long converted = 0;
+        try (MongoCursor<BsonDocument> cursor = collection.find(new BsonDocument("$or", new BsonArray(arrays)))
+                                                          .projection(projection)
+                                                          .batchSize(batchSize)
+                                                          .iterator()) {
+            while (cursor.hasNext() && !Thread.currentThread().isInterrupted()) {
+                BsonDocument document = cursor.next();
+                for (final MappedField field : fields) {
+                    BsonValue value = document.get(field.getMappedFieldName());
+                    if (value != null && value.isArray()) {
+                        BsonBinary packed = new BsonBinary(PackedArrayCodec.SUBTYPE, PackedArrayCodec.pack(decode(mapper, field, value)));
+                        converted += collection.updateOne(isArray(field).append("_id", document.get("_id")),
+                            new BsonDocument("$set", new BsonDocument(field.getMappedFieldName(), packed)))
+                                               .getModifiedCount();
+                    }
+                }
+            }
+        }
+        return converted;
+    }
+
+    private static BsonDocument isArray(final MappedField field) {
+        return new BsonDocument(field.getMappedFieldName(), new BsonDocument("$type", new BsonString("array")));
+    }
+
+    private static Object decode(final Mapper mapper, final MappedField field, final BsonValue value) {
+        BsonDocumentReader reader = new BsonDocumentReader(new BsonDocument("value", value));
+        reader.readStartDocument();
+        reader.readBsonType();
+        reader.readName();
+        return mapper.getCodecRegistry().get(field.getType()).decode(reader, DecoderContext.builder().build());
+    }
+}
@@ -0,0 +1,27 @@
+package dev.morphia.geo;
+
+import com.mongodb.client.model.geojson.GeoJsonObjectType;
+
+/**
+ * A GeoJSON geometry whose positions are held in {@code double} arrays rather than lists of boxed values.  These types are stored in the
+ * standard GeoJSON form so they can be indexed and queried like any other geometry, but they are encoded and decoded by streaming the
+ * coordinates directly to and from the BSON writer and reader.
+ * <p>
+ * Positions are two dimensional.  Any values after the longitude and latitude of a stored position, such as an altitude, are ignored
+ * when decoding.
+ *
+ * @since 2.0
+ */
+public interface PackedGeometry {
+    /**
+     * @return the GeoJSON type of this geometry
+     */
+    GeoJsonObjectType getType();
+
+    /**
+     * Converts this type to the driver type for use in queries
+     *
+     * @return the driver type
+     */
+    com.mongodb.client.model.geojson.Geometry convert();
+}
@@ -0,0 +1,101 @@
+package dev.morphia.geo;
+
+import com.mongodb.client.model.geojson.GeoJsonObjectType;
+import com.mongodb.client.model.geojson.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * A GeoJSON LineString held as a single array of interleaved longitude and latitude values.
+ *
+ * @see PackedGeometry
+ * @since 2.0
+ */
+public final class PackedLineString implements PackedGeometry {
+    private final double[] coordinates;
+
+    /**
+     * Creates a line string
+     *
+     * @param coordinates the positions as longitude, latitude pairs.  The array is not copied.
+     */
+    public PackedLineString(final double... coordinates) {
+        if (coordinates.length % 2 != 0) {
+            throw new IllegalArgumentException(format("Expected longitude and latitude pairs but found %d values.", coordinates.length));
+        }
+        this.coordinates = coordinates;
+    }
+
+    /**
+     * @return the positions as longitude, latitude pairs.  The array is not copied.
+     */
+    public double[] getCoordinates() {
+        return coordinates;
+    }
+
+    /**
+     * @return the number of positions
+     */
+    public int size() {
+        return coordinates.length / 2;
+    }
+
+    /**
+     * @param index the index of the position
+     * @return the longitude of the position
+     */
+    public double getLongitude(final int index) {
+        return coordinates[index * 2];
+    }
+
+    /**
+     * @param index the index of the position
+     * @return the latitude of the position
+     */
+    public double getLatitude(final int index) {
+        return coordinates[index * 2 + 1];
+    }
+
+    @Override
+    public GeoJsonObjectType getType() {
+        return GeoJsonObjectType.LINE_STRING;
+    }
+
+    @Override
+    public com.mongodb.client.model.geojson.LineString convert() {
+        return new com.mongodb.client.model.geojson.LineString(positions(coordinates));
+    }
+
+    static List<Position> positions(final double[] coordinates) {
+        List<Position> positions = new ArrayList<>(coordinates.length / 2);
+        for (int i = 0; i < coordinates.length; i += 2) {
+            positions.add(new Position(coordinates[i], coordinates[i + 1]));
+        }
+        return positions;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedLineString)) {
+            return false;
+        }
+        return Arrays.equals(coordinates, ((PackedLineString) o).coordinates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(coordinates);
+    }
+
+    @Override
+    public String toString() {
+        return format("PackedLineString{coordinates=%s}", Arrays.toString(coordinates));
+    }
+}
@@ -0,0 +1,71 @@
+package dev.morphia.geo;
+
+import com.mongodb.client.model.geojson.GeoJsonObjectType;
+import com.mongodb.client.model.geojson.PolygonCoordinates;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * A GeoJSON MultiPolygon held as an array of {@link PackedPolygon}s.
+ *
+ * @see PackedGeometry
+ * @since 2.0
+ */
+public final class PackedMultiPolygon implements PackedGeometry {
+    private final PackedPolygon[] polygons;
+
+    /**
+     * Creates a multi polygon
+     *
+     * @param polygons the polygons.  The array is not copied.
+     */
+    public PackedMultiPolygon(final PackedPolygon... polygons) {
+        this.polygons = polygons;
+    }
+
+    /**
+     * @return the polygons.  The array is not copied.
+     */
+    public PackedPolygon[] getPolygons() {
+        return polygons;
+    }
+
+    @Override
+    public GeoJsonObjectType getType() {
+        return GeoJsonObjectType.MULTI_POLYGON;
+    }
+
+    @Override
+    public com.mongodb.client.model.geojson.MultiPolygon convert() {
+        List<PolygonCoordinates> coordinates = new ArrayList<>(polygons.length);
+        for (final PackedPolygon polygon : polygons) {
+            coordinates.add(polygon.coordinates());
+        }
+        return new com.mongodb.client.model.geojson.MultiPolygon(coordinates);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedMultiPolygon)) {
+            return false;
+        }
+        return Arrays.equals(polygons, ((PackedMultiPolygon) o).polygons);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(polygons);
+    }
+
+    @Override
+    public String toString() {
+        return format("PackedMultiPolygon{polygons=%s}", Arrays.toString(polygons));
+    }
+}
@@ -0,0 +1,76 @@
+package dev.morphia.geo;
+
+import com.mongodb.client.model.geojson.GeoJsonObjectType;
+import com.mongodb.client.model.geojson.Position;
+
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * A GeoJSON Point held as a pair of {@code double} values.
+ *
+ * @see PackedGeometry
+ * @since 2.0
+ */
+public final class PackedPoint implements PackedGeometry {
+    private final double longitude;
+    private final double latitude;
+
+    /**
+     * Creates a point
+     *
+     * @param longitude the longitude
+     * @param latitude  the latitude
+     */
+    public PackedPoint(final double longitude, final double latitude) {
+        this.longitude = longitude;
+        this.latitude = latitude;
+    }
+
+    /**
+     * @return the longitude
+     */
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * @return the latitude
+     */
+    public double getLatitude() {
+        return latitude;
+    }
+
+    @Override
+    public GeoJsonObjectType getType() {
+        return GeoJsonObjectType.POINT;
+    }
+
+    @Override
+    public com.mongodb.client.model.geojson.Point convert() {
+        return new com.mongodb.client.model.geojson.Point(new Position(longitude, latitude));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedPoint)) {
+            return false;
+        }
+        PackedPoint that = (PackedPoint) o;
+        return Double.compare(that.longitude, longitude) == 0 && Double.compare(that.latitude, latitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(longitude, latitude);
+    }
+
+    @Override
+    public String toString() {
+        return format("PackedPoint{longitude=%s, latitude=%s}", longitude, latitude);
+    }
+}
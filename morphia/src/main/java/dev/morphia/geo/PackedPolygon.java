@@ -0,0 +1,92 @@
+package dev.morphia.geo;
+
+import com.mongodb.client.model.geojson.GeoJsonObjectType;
+import com.mongodb.client.model.geojson.PolygonCoordinates;
+import com.mongodb.client.model.geojson.Position;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * A GeoJSON Polygon held as one array of interleaved longitude and latitude values per ring.  The first ring is the exterior and any
+ * others are holes.
+ *
+ * @see PackedGeometry
+ * @since 2.0
+ */
+public final class PackedPolygon implements PackedGeometry {
+    private final double[][] rings;
+
+    /**
+     * Creates a polygon
+     *
+     * @param rings the rings, each as longitude, latitude pairs.  The arrays are not copied.
+     */
+    public PackedPolygon(final double[]... rings) {
+        if (rings.length == 0) {
+            throw new IllegalArgumentException("A polygon needs an exterior ring.");
+        }
+        for (final double[] ring : rings) {
+            if (ring.length % 2 != 0) {
+                throw new IllegalArgumentException(format("Expected longitude and latitude pairs but found %d values.", ring.length));
+            }
+        }
+        this.rings = rings;
+    }
+
+    /**
+     * @return the rings, each as longitude, latitude pairs.  The arrays are not copied.
+     */
+    public double[][] getRings() {
+        return rings;
+    }
+
+    /**
+     * @return the exterior ring as longitude, latitude pairs
+     */
+    public double[] getExterior() {
+        return rings[0];
+    }
+
+    @Override
+    public GeoJsonObjectType getType() {
+        return GeoJsonObjectType.POLYGON;
+    }
+
+    @Override
+    public com.mongodb.client.model.geojson.Polygon convert() {
+        return new com.mongodb.client.model.geojson.Polygon(coordinates());
+    }
+
+    PolygonCoordinates coordinates() {
+        @SuppressWarnings("unchecked")
+        List<Position>[] holes = new List[rings.length - 1];
+        for (int i = 1; i < rings.length; i++) {
+            holes[i - 1] = PackedLineString.positions(rings[i]);
+        }
+        return new PolygonCoordinates(PackedLineString.positions(rings[0]), holes);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedPolygon)) {
+            return false;
+        }
+        return Arrays.deepEquals(rings, ((PackedPolygon) o).rings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(rings);
+    }
+
+    @Override
+    public String toString() {
+        return format("PackedPolygon{rings=%s}", Arrays.deepToString(rings));
+    }
+}
@@ -3,6 +3,7 @@ package dev.morphia.geo;
 import com.mongodb.client.model.geojson.Position;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -16,20 +17,28 @@ import java.util.List;
 @SuppressWarnings("removal")
 @Deprecated(since = "2.0", forRemoval = true)
 public class Point implements Geometry {
-    private final List<Double> coordinates = new ArrayList<Double>();
+    private final double[] coordinates;
+
+    @SuppressWarnings("UnusedDeclaration") // used by Morphia
+    private Point() {
+        coordinates = new double[0];
+    }
 
     Point(final double latitude, final double longitude) {
-        coordinates.add(longitude);
-        coordinates.add(latitude);
+        coordinates = new double[]{longitude, latitude};
     }
 
     Point(final List<Double> coordinates) {
-        this.coordinates.addAll(coordinates);
+        this.coordinates = coordinates.stream().mapToDouble(Double::doubleValue).toArray();
     }
 
     @Override
     public List<Double> getCoordinates() {
-        return coordinates;
+        List<Double> list = new ArrayList<>(coordinates.length);
+        for (final double coordinate : coordinates) {
+            list.add(coordinate);
+        }
+        return list;
     }
 
     /**
@@ -38,7 +47,7 @@ public class Point implements Geometry {
      * @return the Point's latitude
      */
     public double getLatitude() {
-        return coordinates.get(1);
+        return coordinates[1];
     }
 
     /**
@@ -47,12 +56,12 @@ public class Point implements Geometry {
      * @return the Point's longitude
      */
     public double getLongitude() {
-        return coordinates.get(0);
+        return coordinates[0];
     }
 
     @Override
     public int hashCode() {
-        return coordinates.hashCode();
+        return Arrays.hashCode(coordinates);
     }
 
     /* equals, hashCode and toString. Useful primarily for testing and debugging. Don't forget to re-create when changing this class */
@@ -67,22 +76,12 @@ public class Point implements Geometry {
 
         Point point = (Point) o;
 
-        if (getCoordinates().size() != point.getCoordinates().size()) {
-            return false;
-        }
-        for (int i = 0; i < coordinates.size(); i++) {
-            final Double coordinate = coordinates.get(i);
-            if (Double.compare(coordinate, point.getCoordinates().get(i)) != 0) {
-                return false;
-            }
-        }
-
-        return true;
+        return Arrays.equals(coordinates, point.coordinates);
     }
 
     @Override
     public String toString() {
-        return String.format("Point{coordinates=%s}", coordinates);
+        return String.format("Point{coordinates=%s}", Arrays.toString(coordinates));
     }
 
     /**
@@ -0,0 +1,152 @@
+package dev.morphia.mapping;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.UpdateOptions;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Property;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces field names with short aliases: {@code a} through {@code z}, then {@code a1} through {@code z1}, {@code a2} and so on.
+ * Aliases are assigned per collection the first time a field is mapped and persisted in a metadata collection so every instance of an
+ * application, and every later deployment, uses the same alias for a field.  Fields given an explicit name, e.g., with {@link Property},
+ * keep that name and it is never handed out as an alias.  Neither are {@code _id} and the discriminator key.  The fields of embedded types
+ * are not aliased.
+ * <p>
+ * Aliases belong to the mapping: datastores sharing a mapping use the same aliases.  They are read from, and assigned in, the database of
+ * the datastore which maps an entity first.  Mapping therefore needs a reachable server.  A {@link MappingException} is thrown if the
+ * aliases can not be read or assigned.
+ * <p>
+ * Queries, updates, projections and indexes translate field names to their aliases as they do for any other mapped name.  Existing
+ * documents can be converted with {@link dev.morphia.experimental.FieldAliasMigration}.
+ *
+ * @see NamingStrategy#aliases()
+ * @since 2.0
+ */
+public class AliasNamingStrategy extends NamingStrategy {
+    /**
+     * The default collection used to persist aliases
+     */
+    public static final String DEFAULT_COLLECTION = "morphia.aliases";
+    private static final int LETTERS = 26;
+
+    private final String collection;
+    private final Map<String, Map<String, String>> aliases = new ConcurrentHashMap<>();
+
+    AliasNamingStrategy(final String collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Returns the value unchanged.  Aliases are only assigned to the fields of entities as they are mapped.
+     *
+     * @param value the value to process
+     * @return the value
+     */
+    @Override
+    public String apply(final String value) {
+        return value;
+    }
+
+    @Override
+    public String apply(final Datastore datastore, final String scope, final String value, final Set<String> reserved) {
+        Map<String, String> known = aliases.get(scope);
+        String alias = known != null ? known.get(value) : null;
+        if (alias == null) {
+            try {
+                alias = assign(datastore.getDatabase(), scope, value, reserved);
+            } catch (MongoException e) {
+                throw new MappingException(Sofia.aliasesUnavailable(scope, collection), e);
+            }
+        }
+        return alias;
+    }
+
+    /**
+     * Gets the aliases in use for a collection.  If no entity stored in the collection has been mapped yet, the aliases persisted in the
+     * datastore's database are returned.
+     *
+     * @param datastore the datastore to use
+     * @param scope     the collection name of an entity
+     * @return the aliases keyed by field name
+     */
+    public Map<String, String> getAliases(final Datastore datastore, final String scope) {
+        Map<String, String> known = aliases.get(scope);
+        if (known == null) {
+            try {
+                known = load(datastore.getDatabase().getCollection(collection), scope);
+            } catch (MongoException e) {
+                throw new MappingException(Sofia.aliasesUnavailable(scope, collection), e);
+            }
+        }
+        return Collections.unmodifiableMap(known);
+    }
+
+    /**
+     * @return the name of the collection the aliases are persisted in
+     */
+    public String getCollection() {
+        return collection;
+    }
+
+    private synchronized String assign(final MongoDatabase database, final String scope, final String field, final Set<String> reserved) {
+        MongoCollection<Document> metadata = database.getCollection(collection);
+        while (true) {
+            Map<String, String> known = load(metadata, scope);
+            aliases.put(scope, known);
+            String alias = known.get(field);
+            if (alias != null) {
+                return alias;
+            }
+
+            Set<String> used = new HashSet<>(known.values());
+            used.addAll(reserved);
+            String candidate = next(used);
+            try {
+                metadata.updateOne(new Document("_id", scope)
+                                       .append("aliases.field", new Document("$ne", field))
+                                       .append("aliases.alias", new Document("$ne", candidate)),
+                    new Document("$push", new Document("aliases", new Document("field", field).append("alias", candidate))),
+                    new UpdateOptions().upsert(true));
+            } catch (MongoWriteException e) {
+                if (ErrorCategory.fromErrorCode(e.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+                // another process updated the aliases first.  reload and try again.
+            }
+        }
+    }
+
+    private static Map<String, String> load(final MongoCollection<Document> metadata, final String scope) {
+        Map<String, String> known = new HashMap<>();
+        Document document = metadata.find(new Document("_id", scope)).first();
+        if (document != null) {
+            for (final Document alias : document.getList("aliases", Document.class, List.of())) {
+                known.put(alias.getString("field"), alias.getString("alias"));
+            }
+        }
+        return known;
+    }
+
+    private static String next(final Set<String> used) {
+        for (int index = 0; ; index++) {
+            String candidate = (char) ('a' + index % LETTERS) + (index < LETTERS ? "" : String.valueOf(index / LETTERS));
+            if (!used.contains(candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -3,12 +3,43 @@ package dev.morphia.mapping;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
+import dev.morphia.sofia.Sofia;
+
+import java.util.HashSet;
+import java.util.Map;
 
 /**
  * Defines a function to calculate a discriminator value.  This function is only applied if the existing value is the annotation default
  * value.
  */
 public abstract class DiscriminatorFunction {
+    /**
+     * Defines a function to use short aliases from a dictionary for the discriminator value.  Short values keep documents and index
+     * entries small and are quick to resolve when decoding.  Types without an alias use the fallback function.  Aliased types must be
+     * mapped before documents using their aliases are read.
+     * <pre>
+     * DiscriminatorFunction.aliases(Map.of(Circle.class, "1", Square.class, "2"), DiscriminatorFunction.simpleName())
+     * </pre>
+     *
+     * @param aliases  the alias to use for each type
+     * @param fallback the function to use for types without an alias
+     * @return the function
+     * @since 2.0
+     */
+    public static DiscriminatorFunction aliases(final Map<Class<?>, String> aliases, final DiscriminatorFunction fallback) {
+        Map<Class<?>, String> dictionary = Map.copyOf(aliases);
+        if (new HashSet<>(dictionary.values()).size() != dictionary.size()) {
+            throw new IllegalArgumentException(Sofia.duplicatedDiscriminatorAlias(dictionary));
+        }
+        return new DiscriminatorFunction() {
+            @Override
+            public String compute(final EntityModelBuilder<?> builder) {
+                String alias = dictionary.get(builder.getType());
+                return alias != null ? alias : fallback.compute(builder);
+            }
+        };
+    }
+
     /**
      * Defines a function to use the class name for the discriminator value
      *
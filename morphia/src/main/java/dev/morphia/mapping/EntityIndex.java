@@ -0,0 +1,94 @@
+package dev.morphia.mapping;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the index of mappable classes written at build time by {@link EntityIndexProcessor}.  Each jar or output directory can carry
+ * its own index so every copy of the resource on the class path is read.  An index covers every class compiled in to the jar or
+ * directory holding it.  The index is a plain text file listing one binary class name per line.  Blank lines and lines starting with
+ * {@code #} are ignored.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+final class EntityIndex {
+    /**
+     * The location of the index on the class path
+     */
+    static final String LOCATION = "META-INF/morphia/entities";
+
+    private EntityIndex() {
+    }
+
+    /**
+     * Reads every index visible to the given class loader
+     *
+     * @param loader the class loader to search
+     * @return the names of the indexed classes keyed by the class path root, i.e. the jar or directory, holding each index.  The key
+     * is null for an index whose root could not be determined.  This is empty if there are no indexes.
+     */
+    static Map<Path, Set<String>> read(final ClassLoader loader) {
+        Map<Path, Set<String>> indexes = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    read(reader, indexes.computeIfAbsent(root(url), key -> new LinkedHashSet<>()));
+                }
+            }
+        } catch (IOException e) {
+            throw new MappingException("Could not read the entity index " + LOCATION, e);
+        }
+        return indexes;
+    }
+
+    /**
+     * Converts a class path element as reported by a class path scan to the form used for the roots of the indexes
+     *
+     * @param element the class path element
+     * @return the path or null if the element is not a plain jar or directory
+     */
+    static Path path(final String element) {
+        try {
+            String location = element.startsWith("file:") ? Paths.get(URI.create(element)).toString() : element;
+            return location.contains("!") ? null : Paths.get(location).toAbsolutePath().normalize();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Path root(final URL url) {
+        String location = url.toExternalForm();
+        if (location.startsWith("jar:")) {
+            location = location.substring("jar:".length(), location.indexOf("!/"));
+        } else if (location.endsWith("/" + LOCATION)) {
+            location = location.substring(0, location.length() - LOCATION.length() - 1);
+        } else {
+            return null;
+        }
+        return path(location);
+    }
+
+    static void read(final BufferedReader reader, final Set<String> names) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                names.add(line);
+            }
+        }
+    }
+}
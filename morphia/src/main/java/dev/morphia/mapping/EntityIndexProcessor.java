@@ -0,0 +1,113 @@
+package dev.morphia.mapping;
+
+import dev.morphia.annotations.Embedded;
+import dev.morphia.annotations.Entity;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor which writes an index of the mappable classes being compiled.  A class is mappable if it or any of its
+ * supertypes is annotated with {@link Entity} or {@link Embedded}.  {@link Mapper#mapPackage(String)} reads this index, when present,
+ * instead of scanning the jar or directory holding it.  The processor looks at every type compiled so that subclasses of mapped types
+ * are found too.  It is therefore not registered as a service and has to be enabled explicitly, e.g. with
+ * {@code -processor dev.morphia.mapping.EntityIndexProcessor} or the compiler plugin's {@code annotationProcessors} setting.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+@SupportedAnnotationTypes("*")
+public class EntityIndexProcessor extends AbstractProcessor {
+    private final Set<String> names = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            write();
+        } else {
+            for (final TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                collect(type);
+            }
+        }
+        return false;
+    }
+
+    private void collect(final TypeElement type) {
+        if (isMappable(type.asType())) {
+            names.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+        for (final TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(nested);
+        }
+    }
+
+    private boolean isMappable(final TypeMirror mirror) {
+        if (mirror.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        Element element = ((DeclaredType) mirror).asElement();
+        if (element.getAnnotation(Entity.class) != null || element.getAnnotation(Embedded.class) != null) {
+            return true;
+        }
+        for (final TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(mirror)) {
+            if (isMappable(supertype)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write() {
+        if (names.isEmpty()) {
+            return;
+        }
+        Set<String> indexed = new TreeSet<>(names);
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.LOCATION);
+            try (BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+                Set<String> previous = new TreeSet<>();
+                EntityIndex.read(reader, previous);
+                for (final String name : previous) {
+                    if (processingEnv.getElementUtils().getTypeElement(name.replace('$', '.')) != null) {
+                        indexed.add(name);
+                    }
+                }
+            }
+        } catch (IOException ignored) {
+            // no index from an earlier, incremental compilation
+        }
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (final String name : indexed) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write the entity index " + EntityIndex.LOCATION + ": "
+                                                                 + e.getMessage());
+        }
+    }
+}
@@ -5,12 +5,17 @@ import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.experimental.ConstructorCreator;
 import dev.morphia.sofia.Sofia;
 
+import java.lang.reflect.Constructor;
+
 /**
  * @param <T>
  * @morphia.internal
  */
 public class InstanceCreatorFactoryImpl<T> implements InstanceCreatorFactory<T> {
     private EntityModel<T> model;
+    private volatile boolean resolved;
+    private boolean fullConstructor;
+    private Constructor<T> noArgsConstructor;
 
     /**
      * Creates a factory for this type
@@ -23,18 +28,46 @@ public class InstanceCreatorFactoryImpl<T> implements InstanceCreatorFactory<T>
 
     @Override
     public MorphiaInstanceCreator<T> create() {
-        if (!model.getType().isInterface()) {
-            if (ConstructorCreator.getFullConstructor(model) != null) {
-                return new ConstructorCreator<>(model);
-            }
+        resolve();
+        return fullConstructor ? new ConstructorCreator<>(model) : new NoArgCreator<>(noArgsConstructor);
+    }
 
-            try {
-                return new NoArgCreator<>(model.getType().getDeclaredConstructor());
-            } catch (NoSuchMethodException e) {
-                throw new MappingException(Sofia.noargConstructorNotFound(model.getType().getName()));
+    /**
+     * Creates a new instance with the no argument constructor
+     *
+     * @return the new instance or null if the type is created with a constructor taking its fields
+     */
+    public T newInstance() {
+        resolve();
+        if (fullConstructor) {
+            return null;
+        }
+        try {
+            return noArgsConstructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new MappingException(Sofia.instantiationProblem(model.getType().getName(), e.getMessage()), e);
+        }
+    }
 
+    /**
+     * Finds the constructor to use once rather than searching the type's constructors for every instance
+     */
+    private void resolve() {
+        if (!resolved) {
+            if (model.getType().isInterface()) {
+                throw new MappingException(Sofia.noargConstructorNotFound(model.getType().getName()));
+            }
+            if (ConstructorCreator.getFullConstructor(model) != null) {
+                fullConstructor = true;
+            } else {
+                try {
+                    noArgsConstructor = model.getType().getDeclaredConstructor();
+                    noArgsConstructor.setAccessible(true);
+                } catch (NoSuchMethodException e) {
+                    throw new MappingException(Sofia.noargConstructorNotFound(model.getType().getName()));
+                }
             }
+            resolved = true;
         }
-        throw new MappingException(Sofia.noargConstructorNotFound(model.getType().getName()));
     }
 }
@@ -15,6 +15,7 @@
  */
 package dev.morphia.mapping;
 
+import com.mongodb.WriteConcern;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
@@ -50,6 +51,7 @@ public class MappedClass {
      */
     private final EntityModel<?> entityModel;
     private final Class<?> type;
+    private final WriteConcern writeConcern;
     /**
      * special fields representing the Key of the object
      */
@@ -76,6 +78,8 @@ public class MappedClass {
             throw new MappingException(format("Cannot use non-static inner class: %s. Please make static.", type));
         }
         discover(mapper);
+        Entity entity = getEntityAnnotation();
+        writeConcern = entity != null && !entity.concern().isEmpty() ? WriteConcern.valueOf(entity.concern()) : null;
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("MappedClass done: " + this);
@@ -89,6 +93,13 @@ public class MappedClass {
         return Collections.unmodifiableList(subtypes);
     }
 
+    /**
+     * @return true if any subtypes of this type have been mapped
+     */
+    public boolean hasSubtypes() {
+        return !subtypes.isEmpty();
+    }
+
     /**
      * Update mappings based on fields/annotations.
      */
@@ -201,6 +212,14 @@ public class MappedClass {
         return entityModel.getAnnotation(Entity.class);
     }
 
+    /**
+     * @return the write concern named on the {@link Entity} annotation or null if none was given
+     * @since 2.0
+     */
+    public WriteConcern getWriteConcern() {
+        return writeConcern;
+    }
+
     /**
      * @return the idField
      */
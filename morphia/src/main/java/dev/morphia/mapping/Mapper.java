@@ -1,6 +1,8 @@
 package dev.morphia.mapping;
 
 
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
@@ -9,38 +11,56 @@ import dev.morphia.Key;
 import dev.morphia.aggregation.experimental.codecs.AggregationCodecProvider;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
+import dev.morphia.mapping.codec.ByteBufferOutput;
+import dev.morphia.mapping.codec.CompressionStats;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.EnumCodecProvider;
+import dev.morphia.mapping.codec.InternTable;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
 import dev.morphia.mapping.codec.MorphiaTypesCodecProvider;
 import dev.morphia.mapping.codec.PrimitiveCodecRegistry;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.query.internal.ProjectionCodec;
 import dev.morphia.sofia.Sofia;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
 
@@ -66,14 +86,18 @@ public class Mapper {
     /**
      * Set of classes that registered by this mapper
      */
-    private final Map<Class, MappedClass> mappedClasses = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Set<MappedClass>> mappedClassesByCollection = new ConcurrentHashMap<>();
+    private final Map<Class, MappedClass> mappedClasses;
+    private final ConcurrentHashMap<String, Set<MappedClass>> mappedClassesByCollection;
 
     //EntityInterceptors; these are called after EntityListeners and lifecycle methods on an Entity, for all Entities
-    private final List<EntityInterceptor> interceptors = new LinkedList<>();
+    private final List<EntityInterceptor> interceptors;
     private final MapperOptions options;
-    private final DiscriminatorLookup discriminatorLookup = new DiscriminatorLookup(Collections.emptyMap(), Collections.emptySet());
+    private final DiscriminatorLookup discriminatorLookup;
     private final MorphiaCodecProvider morphiaCodecProvider;
+    private final Map<CollectionKey, MongoCollection> collections = new ConcurrentHashMap<>();
+    private final Map<List<Class<?>>, ProjectionCodec<?>> projectionCodecs = new ConcurrentHashMap<>();
+    private final Map<List<Object>, CompressionStats> compressionStats;
+    private final Map<List<Object>, InternTable> internTables;
     private Datastore datastore;
     private CodecRegistry codecRegistry;
 
@@ -88,15 +112,38 @@ public class Mapper {
     public Mapper(final Datastore datastore, final CodecRegistry codecRegistry, final MapperOptions options) {
         this.datastore = datastore;
         this.options = options;
+        mappedClasses = new ConcurrentHashMap<>();
+        mappedClassesByCollection = new ConcurrentHashMap<>();
+        interceptors = new CopyOnWriteArrayList<>();
+        discriminatorLookup = new DiscriminatorLookup(Collections.emptyMap(), Collections.emptySet());
+        compressionStats = new ConcurrentHashMap<>();
+        internTables = new ConcurrentHashMap<>();
         morphiaCodecProvider = new MorphiaCodecProvider(this, datastore);
-        this.codecRegistry = fromRegistries(
-            fromProviders(new MorphiaTypesCodecProvider(this)),
-            new PrimitiveCodecRegistry(codecRegistry),
-            codecRegistry,
-            fromProviders(
-                new EnumCodecProvider(),
-                new AggregationCodecProvider(this),
-                morphiaCodecProvider));
+        this.codecRegistry = createRegistry(codecRegistry);
+    }
+
+    /**
+     * Creates a Mapper which shares the mapping metadata of another Mapper.  The mapped classes, entity models, discriminators,
+     * interceptors, options and field statistics are reused as is so no mapping work is repeated.  Only the codecs, which are bound to a
+     * datastore, are created anew and only as they are needed.  Classes mapped later through either Mapper are visible to both.
+     *
+     * @param datastore     the datastore to use
+     * @param codecRegistry the codec registry
+     * @param shared        the Mapper whose metadata to share
+     * @morphia.internal
+     * @since 2.0
+     */
+    public Mapper(final Datastore datastore, final CodecRegistry codecRegistry, final Mapper shared) {
+        this.datastore = datastore;
+        this.options = shared.options;
+        mappedClasses = shared.mappedClasses;
+        mappedClassesByCollection = shared.mappedClassesByCollection;
+        interceptors = shared.interceptors;
+        discriminatorLookup = shared.discriminatorLookup;
+        compressionStats = shared.compressionStats;
+        internTables = shared.internTables;
+        morphiaCodecProvider = new MorphiaCodecProvider(this, datastore);
+        this.codecRegistry = createRegistry(codecRegistry);
     }
 
     /**
@@ -128,11 +175,73 @@ public class Mapper {
      */
     public MongoCollection enforceWriteConcern(final MongoCollection collection, final Class type) {
         WriteConcern applied = getWriteConcern(type);
-        return applied != null
+        return applied != null && !applied.equals(collection.getWriteConcern())
                ? collection.withWriteConcern(applied)
                : collection;
     }
 
+    /**
+     * Decodes an entity straight from its BSON bytes without creating an intermediate {@link Document}.  Reading starts at the buffer's
+     * current position and leaves the position after the document so consecutive documents can be read from one buffer.  The buffer's
+     * byte order is set to little endian as BSON requires.
+     *
+     * @param <T>    the type of the entity
+     * @param type   the target type
+     * @param buffer the buffer holding the document
+     * @return the new entity
+     * @since 2.0
+     */
+    public <T> T decode(final Class<T> type, final ByteBuffer buffer) {
+        return decode(type, new BsonBinaryReader(buffer));
+    }
+
+    /**
+     * Decodes an entity straight from a raw document without creating an intermediate {@link Document}.
+     *
+     * @param <T>      the type of the entity
+     * @param type     the target type
+     * @param document the raw document
+     * @return the new entity
+     * @since 2.0
+     */
+    public <T> T decode(final Class<T> type, final RawBsonDocument document) {
+        return decode(type, document.asBsonReader());
+    }
+
+    /**
+     * Encodes an entity straight to its BSON bytes without creating an intermediate {@link Document}.
+     *
+     * @param entity the entity to encode
+     * @return the raw document
+     * @since 2.0
+     */
+    public RawBsonDocument encode(final Object entity) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        encode(entity, new BsonBinaryWriter(buffer));
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
+    /**
+     * Encodes an entity in to a caller supplied buffer, such as one taken from a pool, starting at the buffer's current position.  On
+     * return the position is after the encoded document.  The buffer is not grown so if the document does not fit a
+     * {@link java.nio.BufferOverflowException} is thrown and the position is restored.
+     *
+     * @param entity the entity to encode
+     * @param buffer the buffer to write to
+     * @return the buffer
+     * @since 2.0
+     */
+    public ByteBuffer encode(final Object entity, final ByteBuffer buffer) {
+        int position = buffer.position();
+        try {
+            encode(entity, new BsonBinaryWriter(new ByteBufferOutput(buffer)));
+        } catch (RuntimeException e) {
+            buffer.position(position);
+            throw e;
+        }
+        return buffer;
+    }
+
     /**
      * Converts a Document back to a type-safe java object (POJO)
      *
@@ -239,23 +348,65 @@ public class Mapper {
      * @return the collection mapped for this class
      */
     public <T> MongoCollection<T> getCollection(final Class<T> type) {
-        MappedClass mappedClass = getMappedClass(type);
-        if (mappedClass == null) {
-            throw new MappingException(Sofia.notMappable(type.getName()));
-        }
-        if (mappedClass.getCollectionName() == null) {
-            throw new MappingException(Sofia.noMappedCollection(type.getName()));
-        }
-
-        MongoCollection<T> collection = datastore.getDatabase().getCollection(mappedClass.getCollectionName(), type);
+        return getCollection(type, null, null, null);
+    }
 
-        Entity annotation = mappedClass.getEntityAnnotation();
-        if (annotation != null && WriteConcern.valueOf(annotation.concern()) != null) {
-            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
+    /**
+     * Gets the collection mapped for a class configured with the given concerns.  The handles are created once per combination and
+     * reused after that.
+     *
+     * @param type           the type look up
+     * @param writeConcern   the write concern to use or null for the one mapped for the type
+     * @param readPreference the read preference to use or null for the database's
+     * @param readConcern    the read concern to use or null for the database's
+     * @param <T>            the class type
+     * @return the collection mapped for this class
+     * @morphia.internal
+     * @since 2.0
+     */
+    public <T> MongoCollection<T> getCollection(final Class<T> type, final WriteConcern writeConcern, final ReadPreference readPreference,
+                                                final ReadConcern readConcern) {
+        CollectionKey key = new CollectionKey(type, writeConcern, readPreference, readConcern);
+        MongoCollection<T> collection = collections.get(key);
+        if (collection == null) {
+            collection = collections.computeIfAbsent(key, k -> createCollection(type, writeConcern, readPreference, readConcern));
         }
         return collection;
     }
 
+    /**
+     * Gets the compression statistics for a {@link dev.morphia.annotations.Compressed} field
+     *
+     * @param type the type declaring the field
+     * @param name the name of the java field
+     * @return the statistics or null if the field is not compressed or has not been mapped yet
+     * @since 2.0
+     */
+    public CompressionStats getCompressionStats(final Class<?> type, final String name) {
+        return compressionStats.get(List.of(type, name));
+    }
+
+    /**
+     * Gets the compression statistics for a field creating them if needed
+     *
+     * @param field the compressed field
+     * @return the statistics
+     * @morphia.internal
+     * @since 2.0
+     */
+    public CompressionStats getCompressionStats(final Field field) {
+        return compressionStats.computeIfAbsent(List.of(field.getDeclaringClass(), field.getName()), k -> new CompressionStats());
+    }
+
+    /**
+     * @return the datastore this Mapper belongs to
+     * @morphia.internal
+     * @since 2.0
+     */
+    public Datastore getDatastore() {
+        return datastore;
+    }
+
     /**
      * @return the DiscriminatorLookup in use
      */
@@ -293,6 +444,32 @@ public class Mapper {
         return interceptors;
     }
 
+    /**
+     * Gets the table of interned values for an {@link dev.morphia.annotations.Interned} field
+     *
+     * @param type the type declaring the field
+     * @param name the name of the java field
+     * @return the table or null if the field is not interned or has not been mapped yet
+     * @since 2.0
+     */
+    public InternTable getInternTable(final Class<?> type, final String name) {
+        return internTables.get(List.of(type, name));
+    }
+
+    /**
+     * Gets the table of interned values for a field creating it if needed.  A table created for a different capacity is replaced.
+     *
+     * @param field    the interned field
+     * @param capacity the capacity of the table
+     * @return the table
+     * @morphia.internal
+     * @since 2.0
+     */
+    public InternTable getInternTable(final Field field, final int capacity) {
+        return internTables.compute(List.of(field.getDeclaringClass(), field.getName()),
+            (key, table) -> table != null && table.hasCapacity(capacity) ? table : new InternTable(capacity));
+    }
+
     /**
      * Gets the Key for an entity
      *
@@ -342,7 +519,7 @@ public class Mapper {
             return null;
         }
 
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
+        final Class actual = actualType(type);
         MappedClass mc = mappedClasses.get(actual);
         if (mc == null) {
             mc = addMappedClass(actual);
@@ -375,6 +552,37 @@ public class Mapper {
     public void setOptions(final MapperOptions options) {
     }
 
+    /**
+     * Gets the codec decoding an entity's documents in to a projected type.  The codecs are built once per pair of types and reused.
+     *
+     * @param entity the entity type
+     * @param type   the projected type
+     * @param <D>    the projected type
+     * @return the codec
+     * @morphia.internal
+     * @since 2.0
+     */
+    @SuppressWarnings("unchecked")
+    public <D> ProjectionCodec<D> getProjectionCodec(final Class<?> entity, final Class<D> type) {
+        return (ProjectionCodec<D>) projectionCodecs.computeIfAbsent(List.of(entity, type),
+            key -> new ProjectionCodec<>(this, getMappedClass(entity), type));
+    }
+
+    /**
+     * Gets the codec this Mapper uses for a mapped field.  Entity models are shared by the mappers of several datastores so this
+     * should be used rather than {@link dev.morphia.mapping.codec.pojo.FieldModel#getCachedCodec()}.
+     *
+     * @param field the field
+     * @return the codec for the field
+     * @morphia.internal
+     * @since 2.0
+     */
+    public Codec<?> getPropertyCodec(final MappedField field) {
+        FieldModel<?> model = field.getFieldModel();
+        Codec<?> codec = codecRegistry.get(field.getDeclaringClass().getType());
+        return codec instanceof MorphiaCodec ? ((MorphiaCodec<?>) codec).getPropertyCodec(model) : model.getCachedCodec();
+    }
+
     /**
      * Finds any subtypes for the given MappedClass.
      *
@@ -395,15 +603,7 @@ public class Mapper {
      * @morphia.internal
      */
     public WriteConcern getWriteConcern(final Class clazz) {
-        WriteConcern wc = null;
-        if (clazz != null) {
-            final Entity entityAnn = getMappedClass(clazz).getEntityAnnotation();
-            if (entityAnn != null && !entityAnn.concern().isEmpty()) {
-                wc = WriteConcern.valueOf(entityAnn.concern());
-            }
-        }
-
-        return wc;
+        return clazz != null ? getMappedClass(clazz).getWriteConcern() : null;
     }
 
     /**
@@ -446,12 +646,31 @@ public class Mapper {
     }
 
     /**
-     * Maps a set of classes
+     * Maps a set of classes.  The reflective work of building the entity models and validating the mappings is done in parallel on the
+     * common fork-join pool.  The new mappings are registered one at a time, supertypes first and otherwise in the order given, so the
+     * discriminator and collection lookups end up the same regardless of scheduling.  Classes first found while validating, e.g., the
+     * targets of references, are mapped as they are found.
      *
      * @param classes the classes to map
      * @return the list of mapped classes
      */
     public List<MappedClass> map(final List<Class> classes) {
+        Set<Class> unmapped = new LinkedHashSet<>();
+        for (final Class type : classes) {
+            collectUnmapped(actualType(type), unmapped);
+        }
+        Map<Class, EntityModel> models = unmapped.parallelStream()
+                                                 .collect(Collectors.toConcurrentMap(type -> type, type -> createEntityModel(type)));
+
+        List<MappedClass> added = new ArrayList<>();
+        synchronized (mappedClasses) {
+            for (final Class type : unmapped) {
+                register(type, models, added);
+            }
+        }
+        added.parallelStream()
+             .forEach(this::validate);
+
         return classes.stream()
                       .map(c -> getMappedClass(c))
                       .filter(mc -> mc != null)
@@ -459,16 +678,18 @@ public class Mapper {
     }
 
     /**
-     * Tries to map all classes in the package specified.
+     * Tries to map all classes in the package specified.  Classes in jars or directories carrying the index written by
+     * {@link EntityIndexProcessor} are taken from the index.  The rest of the class path is scanned for classes annotated with
+     * {@link Entity} or {@link Embedded}.
      *
      * @param packageName the name of the package to process
      */
-    public synchronized void mapPackage(final String packageName) {
+    public void mapPackage(final String packageName) {
         try {
-            for (final Class clazz : getClasses(getClass().getClassLoader(), packageName,
-                getOptions().isMapSubPackages())) {
-                map(clazz);
-            }
+            List<Class> classes = new ArrayList<>(getClasses(getClass().getClassLoader(), packageName,
+                getOptions().isMapSubPackages()));
+            classes.sort(Comparator.comparing(Class::getName));
+            map(classes);
         } catch (ClassNotFoundException e) {
             throw new MappingException("Could not get map classes from package " + packageName, e);
         }
@@ -545,12 +766,15 @@ public class Mapper {
      * @return the MappedClass for the given Class
      */
     private MappedClass addMappedClass(final Class type) {
-        MappedClass mappedClass = mappedClasses.get(type);
-        if (mappedClass == null && isMappable(type)) {
-            EntityModel entityModel = createEntityModel(type);
-            mappedClass = addMappedClass(new MappedClass(entityModel, this));
+        synchronized (mappedClasses) {
+            MappedClass mappedClass = mappedClasses.get(type);
+            if (mappedClass == null && isMappable(type)) {
+                EntityModel entityModel = createEntityModel(type);
+                mappedClass = addMappedClass(new MappedClass(entityModel, this));
+                validate(mappedClass);
+            }
+            return mappedClass;
         }
-        return mappedClass;
     }
 
     private MappedClass addMappedClass(final MappedClass mc) {
@@ -561,20 +785,93 @@ public class Mapper {
         }
         discriminatorLookup.addModel(mc.getEntityModel());
 
-        if (!mc.isInterface()) {
-            mc.validate(this);
+        return mc;
+    }
+
+    private Class actualType(final Class type) {
+        return type != null && MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
+    }
+
+    /**
+     * Collects a type and its mappable supertypes if they have not been mapped yet.
+     */
+    private void collectUnmapped(final Class type, final Set<Class> unmapped) {
+        if (type != null && !mappedClasses.containsKey(type) && isMappable(type) && unmapped.add(type)) {
+            collectUnmapped(type.getSuperclass(), unmapped);
+            for (final Class anInterface : type.getInterfaces()) {
+                collectUnmapped(anInterface, unmapped);
+            }
         }
+    }
 
-        return mc;
+    /**
+     * Registers a type using an already built model.  Supertypes are registered first so that they are found when the type's
+     * MappedClass discovers its hierarchy.
+     */
+    private void register(final Class type, final Map<Class, EntityModel> models, final List<MappedClass> added) {
+        EntityModel model = type != null ? models.remove(type) : null;
+        if (model != null && !mappedClasses.containsKey(type)) {
+            register(type.getSuperclass(), models, added);
+            for (final Class anInterface : type.getInterfaces()) {
+                register(anInterface, models, added);
+            }
+            added.add(addMappedClass(new MappedClass(model, this)));
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void encode(final Object entity, final BsonWriter writer) {
+        Codec codec = getCodecRegistry().get(getMappedClass(entity.getClass()).getType());
+        codec.encode(writer, entity, EncoderContext.builder().build());
+    }
+
+    private <T> T decode(final Class<T> type, final BsonReader reader) {
+        return getCodecRegistry()
+                   .get(type)
+                   .decode(reader, DecoderContext.builder().build());
+    }
+
+    private void validate(final MappedClass mappedClass) {
+        if (!mappedClass.isInterface()) {
+            mappedClass.validate(this);
+        }
+    }
+
+    private CodecRegistry createRegistry(final CodecRegistry codecRegistry) {
+        return fromRegistries(
+            fromProviders(new MorphiaTypesCodecProvider(this)),
+            new PrimitiveCodecRegistry(codecRegistry),
+            codecRegistry,
+            fromProviders(
+                new EnumCodecProvider(),
+                new AggregationCodecProvider(this),
+                morphiaCodecProvider));
     }
 
     private Set<Class<?>> getClasses(final ClassLoader loader, final String packageName, final boolean mapSubPackages)
         throws ClassNotFoundException {
         final Set<Class<?>> classes = new HashSet<>();
 
+        Map<Path, Set<String>> indexes = EntityIndex.read(loader);
+        for (final Set<String> names : indexes.values()) {
+            for (final String name : names) {
+                int dot = name.lastIndexOf('.');
+                String classPackage = dot == -1 ? "" : name.substring(0, dot);
+                if (classPackage.equals(packageName) || mapSubPackages && classPackage.startsWith(packageName + ".")) {
+                    classes.add(Class.forName(name, false, loader));
+                }
+            }
+        }
+
+        // an index only speaks for the jar or directory holding it so everything else on the class path is still scanned
         ClassGraph classGraph = new ClassGraph()
+                                    .filterClasspathElements(element -> {
+                                        Path path = EntityIndex.path(element);
+                                        return path == null || !indexes.containsKey(path);
+                                    })
                                     .addClassLoader(loader)
-                                    .enableAllInfo();
+                                    .enableClassInfo()
+                                    .enableAnnotationInfo();
         if (mapSubPackages) {
             classGraph.whitelistPackages(packageName);
             classGraph.whitelistPackages(packageName + ".*");
@@ -583,13 +880,45 @@ public class Mapper {
         }
 
         try (ScanResult scanResult = classGraph.scan()) {
-            for (final ClassInfo classInfo : scanResult.getAllClasses()) {
-                classes.add(Class.forName(classInfo.getName(), true, loader));
+            for (final String annotation : List.of(Entity.class.getName(), Embedded.class.getName())) {
+                for (final ClassInfo classInfo : scanResult.getClassesWithAnnotation(annotation)) {
+                    classes.add(Class.forName(classInfo.getName(), false, loader));
+                    if (classInfo.isInterface()) {
+                        for (final ClassInfo implementation : classInfo.getClassesImplementing()) {
+                            classes.add(Class.forName(implementation.getName(), false, loader));
+                        }
+                    }
+                }
             }
         }
         return classes;
     }
 
+    private <T> MongoCollection<T> createCollection(final Class<T> type, final WriteConcern writeConcern,
+                                                    final ReadPreference readPreference, final ReadConcern readConcern) {
+        MappedClass mappedClass = getMappedClass(type);
+        if (mappedClass == null) {
+            throw new MappingException(Sofia.notMappable(type.getName()));
+        }
+        if (mappedClass.getCollectionName() == null) {
+            throw new MappingException(Sofia.noMappedCollection(type.getName()));
+        }
+
+        MongoCollection<T> collection = datastore.getDatabase().getCollection(mappedClass.getCollectionName(), type);
+
+        WriteConcern concern = writeConcern != null ? writeConcern : mappedClass.getWriteConcern();
+        if (concern != null && !concern.equals(collection.getWriteConcern())) {
+            collection = collection.withWriteConcern(concern);
+        }
+        if (readPreference != null && !readPreference.equals(collection.getReadPreference())) {
+            collection = collection.withReadPreference(readPreference);
+        }
+        if (readConcern != null && !readConcern.equals(collection.getReadConcern())) {
+            collection = collection.withReadConcern(readConcern);
+        }
+        return collection;
+    }
+
     private <T> boolean hasAnnotation(final Class<T> clazz, final List<Class<? extends Annotation>> annotations) {
         if (clazz == null) {
             return false;
@@ -606,4 +935,38 @@ public class Mapper {
                         .reduce(false, (l, r) -> l || r);
     }
 
+    private static final class CollectionKey {
+        private final Class type;
+        private final WriteConcern writeConcern;
+        private final ReadPreference readPreference;
+        private final ReadConcern readConcern;
+
+        private CollectionKey(final Class type, final WriteConcern writeConcern, final ReadPreference readPreference,
+                              final ReadConcern readConcern) {
+            this.type = type;
+            this.writeConcern = writeConcern;
+            this.readPreference = readPreference;
+            this.readConcern = readConcern;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CollectionKey)) {
+                return false;
+            }
+            CollectionKey that = (CollectionKey) o;
+            return type.equals(that.type)
+                   && Objects.equals(writeConcern, that.writeConcern)
+                   && Objects.equals(readPreference, that.readPreference)
+                   && Objects.equals(readConcern, that.readConcern);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, writeConcern, readPreference, readConcern);
+        }
+    }
 }
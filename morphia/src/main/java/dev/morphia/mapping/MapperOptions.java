@@ -7,6 +7,7 @@ import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.query.DefaultQueryFactory;
 import dev.morphia.query.LegacyQueryFactory;
 import dev.morphia.query.QueryFactory;
+import dev.morphia.query.internal.BackgroundExecutor;
 import org.bson.UuidRepresentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +15,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static org.bson.UuidRepresentation.STANDARD;
 
@@ -36,6 +38,7 @@ public class MapperOptions {
     private final NamingStrategy collectionNaming;
     private final NamingStrategy fieldNaming;
     private final UuidRepresentation uuidRepresentation;
+    private final Executor backgroundExecutor;
     private ClassLoader classLoader;
     private QueryFactory queryFactory;
 
@@ -54,6 +57,7 @@ public class MapperOptions {
         fieldNaming = builder.fieldNaming;
         uuidRepresentation = builder.uuidRepresentation;
         queryFactory = builder.queryFactory;
+        backgroundExecutor = builder.backgroundExecutor;
     }
 
     /**
@@ -88,9 +92,19 @@ public class MapperOptions {
         builder.mapSubPackages = original.isMapSubPackages();
         builder.creator = original.getCreator();
         builder.classLoader = original.getClassLoader();
+        builder.backgroundExecutor = original.backgroundExecutor;
         return builder;
     }
 
+    /**
+     * @return the executor running background queries and read ahead for cursors
+     * @see Builder#backgroundExecutor(Executor)
+     * @since 2.0
+     */
+    public Executor getBackgroundExecutor() {
+        return backgroundExecutor != null ? backgroundExecutor : BackgroundExecutor.getDefault();
+    }
+
     /**
      * Returns the classloader used, in theory, when loading the entity types.
      *
@@ -218,6 +232,7 @@ public class MapperOptions {
         private NamingStrategy fieldNaming = NamingStrategy.identity();
         private UuidRepresentation uuidRepresentation = STANDARD;
         private QueryFactory queryFactory = new DefaultQueryFactory();
+        private Executor backgroundExecutor;
 
         private Builder() {
         }
@@ -235,6 +250,20 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Sets the executor used to run queries and read ahead in the background, e.g. for prefetching cursors, id lookups and
+         * merged queries.  By default a shared pool of daemon threads is used which runs at most four threads per processor and
+         * queues any further work.
+         *
+         * @param executor the executor to use
+         * @return this
+         * @since 2.0
+         */
+        public Builder backgroundExecutor(final Executor executor) {
+            this.backgroundExecutor = executor;
+            return this;
+        }
+
         /**
          * @return the new options instance
          */
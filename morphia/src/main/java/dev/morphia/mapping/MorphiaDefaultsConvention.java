@@ -151,6 +151,9 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
             if (handler == null) {
                 for (Annotation annotation : builder.getAnnotations()) {
                     handler = annotation.annotationType().getAnnotation(Handler.class);
+                    if (handler != null) {
+                        break;
+                    }
                 }
             }
         }
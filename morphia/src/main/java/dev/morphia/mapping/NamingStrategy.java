@@ -1,7 +1,10 @@
 package dev.morphia.mapping;
 
+import dev.morphia.Datastore;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.StringJoiner;
 
 /**
@@ -103,6 +106,32 @@ public abstract class NamingStrategy {
         };
     }
 
+    /**
+     * Defines a naming strategy that replaces field names with short aliases persisted in the {@value
+     * AliasNamingStrategy#DEFAULT_COLLECTION} collection.  This is only meaningful as a field naming strategy.  Mapping with this strategy
+     * needs a reachable server.
+     *
+     * @return the new strategy
+     * @see AliasNamingStrategy
+     * @since 2.0
+     */
+    public static NamingStrategy aliases() {
+        return new AliasNamingStrategy(AliasNamingStrategy.DEFAULT_COLLECTION);
+    }
+
+    /**
+     * Defines a naming strategy that replaces field names with short aliases persisted in the given collection.  This is only meaningful
+     * as a field naming strategy.  Mapping with this strategy needs a reachable server.
+     *
+     * @param collection the collection to persist the aliases in
+     * @return the new strategy
+     * @see AliasNamingStrategy
+     * @since 2.0
+     */
+    public static NamingStrategy aliases(final String collection) {
+        return new AliasNamingStrategy(collection);
+    }
+
     /**
      * Applies this naming strategy to the given value
      *
@@ -111,6 +140,21 @@ public abstract class NamingStrategy {
      */
     public abstract String apply(String value);
 
+    /**
+     * Applies this naming strategy to the name of a field of an entity.  By default this is the same as {@link #apply(String)}.
+     *
+     * @param datastore the datastore the field is being mapped for
+     * @param scope     the collection name of the entity
+     * @param value     the field name
+     * @param reserved  the names the entity's other fields, its id and its discriminator are stored under
+     * @return the updated value
+     * @morphia.internal
+     * @since 2.0
+     */
+    public String apply(final Datastore datastore, final String scope, final String value, final Set<String> reserved) {
+        return apply(value);
+    }
+
     private static List<String> groupByCapitals(final String value) {
         List<String> groups = new ArrayList<>();
         StringBuilder builder = null;
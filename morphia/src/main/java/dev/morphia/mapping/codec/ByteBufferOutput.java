@@ -0,0 +1,83 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.bson.io.OutputBuffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * An {@link OutputBuffer} writing directly in to a caller supplied {@link ByteBuffer} starting at its current position.  The buffer is
+ * never grown so writing past its limit fails with a {@link java.nio.BufferOverflowException}.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class ByteBufferOutput extends OutputBuffer {
+    private final ByteBuffer buffer;
+    private final int start;
+
+    /**
+     * Creates an output over a buffer
+     *
+     * @param buffer the buffer to write to
+     */
+    public ByteBufferOutput(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.start = buffer.position();
+    }
+
+    @Override
+    public void writeBytes(final byte[] bytes, final int offset, final int length) {
+        buffer.put(bytes, offset, length);
+    }
+
+    @Override
+    public void writeByte(final int value) {
+        buffer.put((byte) value);
+    }
+
+    @Override
+    protected void write(final int position, final int value) {
+        buffer.put(start + position, (byte) value);
+    }
+
+    @Override
+    public int getPosition() {
+        return buffer.position() - start;
+    }
+
+    @Override
+    public int getSize() {
+        return getPosition();
+    }
+
+    @Override
+    public int pipe(final OutputStream out) throws IOException {
+        ByteBuffer written = written();
+        byte[] bytes = new byte[written.remaining()];
+        written.get(bytes);
+        out.write(bytes);
+        return bytes.length;
+    }
+
+    @Override
+    public void truncateToPosition(final int newPosition) {
+        buffer.position(start + newPosition);
+    }
+
+    @Override
+    public List<ByteBuf> getByteBuffers() {
+        return List.of(new ByteBufNIO(written()));
+    }
+
+    private ByteBuffer written() {
+        ByteBuffer written = buffer.duplicate();
+        written.limit(buffer.position());
+        written.position(start);
+        return written;
+    }
+}
@@ -0,0 +1,202 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Compressed;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.sofia.Sofia;
+import morphia.org.bson.codecs.pojo.TypeData;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compresses the values of {@link Compressed} fields.  A value is first encoded with the codec for the field's type.  If the encoded
+ * form is larger than the threshold it is compressed and stored as binary data starting with the compressor's id and the uncompressed
+ * length.  Otherwise the encoded form is copied to the document as is.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class CompressedCodec extends PropertyCodec<Object> {
+    /**
+     * The binary subtype used for compressed values
+     */
+    public static final byte SUBTYPE = (byte) 0x81;
+    private static final int HEADER = 5;
+    // the BSON document size limit with room for the wrapping document.  larger lengths can only come from a corrupt header.
+    private static final int MAX_LENGTH = 16 * 1024 * 1024 + 16 * 1024;
+    private static final Map<Byte, Compressor> COMPRESSORS = new ConcurrentHashMap<>();
+    private static final BsonValueCodec VALUES = new BsonValueCodec();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+    static {
+        register(new DeflateCompressor());
+        for (final Compressor compressor : ServiceLoader.load(Compressor.class)) {
+            register(compressor);
+        }
+    }
+
+    private final int threshold;
+    private final Compressor compressor;
+    private final CompressionStats stats;
+    private Codec<Object> codec;
+
+    /**
+     * Creates a codec
+     *
+     * @param datastore the datastore
+     * @param field     the compressed field
+     * @param typeData  the field type data
+     */
+    public CompressedCodec(final Datastore datastore, final Field field, final TypeData typeData) {
+        super(datastore, field, typeData);
+        Compressed annotation = field.getAnnotation(Compressed.class);
+        threshold = annotation.threshold();
+        try {
+            compressor = annotation.compressor().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+        register(compressor);
+        stats = datastore.getMapper().getCompressionStats(field);
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final Object value, final EncoderContext encoderContext) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter binaryWriter = new BsonBinaryWriter(buffer)) {
+            binaryWriter.writeStartDocument();
+            binaryWriter.writeName("v");
+            encoderContext.encodeWithChildContext(getCodec(), binaryWriter, value);
+            binaryWriter.writeEndDocument();
+        }
+        if (buffer.getSize() <= threshold) {
+            stats.uncompressed();
+            try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(buffer.getInternalBuffer(), 0, buffer.getSize()))) {
+                reader.readStartDocument();
+                reader.readBsonType();
+                reader.readName();
+                pipe(reader, writer);
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        byte[] raw = buffer.toByteArray();
+        byte[] compressed = compressor.compress(raw);
+        byte[] data = ByteBuffer.allocate(HEADER + compressed.length)
+                                .order(ByteOrder.LITTLE_ENDIAN)
+                                .put(compressor.getId())
+                                .putInt(raw.length)
+                                .put(compressed)
+                                .array();
+        stats.compressed(raw.length, data.length, System.nanoTime() - start);
+        writer.writeBinaryData(new BsonBinary(SUBTYPE, data));
+    }
+
+    @Override
+    public Object decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() != BsonType.BINARY || reader.peekBinarySubType() != SUBTYPE) {
+            return decoderContext.decodeWithChildContext(getCodec(), reader);
+        }
+
+        long start = System.nanoTime();
+        ByteBuffer data = ByteBuffer.wrap(reader.readBinaryData().getData()).order(ByteOrder.LITTLE_ENDIAN);
+        byte id = data.get();
+        Compressor decompressor = COMPRESSORS.get(id);
+        if (decompressor == null) {
+            throw new MappingException(Sofia.unknownCompressor(id));
+        }
+        int length = data.getInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new MappingException(Sofia.compressedValueInvalidLength(length, MAX_LENGTH));
+        }
+        byte[] compressed = new byte[data.remaining()];
+        data.get(compressed);
+        byte[] raw = decompressor.decompress(compressed, length);
+        stats.decompressed(System.nanoTime() - start);
+
+        try (BsonBinaryReader binaryReader = new BsonBinaryReader(ByteBuffer.wrap(raw))) {
+            binaryReader.readStartDocument();
+            binaryReader.readBsonType();
+            binaryReader.readName();
+            return decoderContext.decodeWithChildContext(getCodec(), binaryReader);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<Object> getEncoderClass() {
+        return (Class<Object>) getField().getType();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Codec<Object> getCodec() {
+        if (codec == null) {
+            CodecRegistry registry = getDatastore().getMapper().getCodecRegistry();
+            codec = (Codec<Object>) new PropertyCodecRegistryImpl(registry.get(getField().getType()), registry,
+                List.of(new MorphiaMapPropertyCodecProvider(), new MorphiaCollectionPropertyCodecProvider()))
+                                        .get(getTypeData());
+        }
+        return codec;
+    }
+
+    /**
+     * Copies the value the reader is positioned on to the writer without decoding it into its java form.
+     */
+    private static void pipe(final BsonReader reader, final BsonWriter writer) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                if (writer instanceof BsonBinaryWriter) {
+                    writer.pipe(reader);
+                    return;
+                }
+                reader.readStartDocument();
+                writer.writeStartDocument();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    writer.writeName(reader.readName());
+                    pipe(reader, writer);
+                }
+                reader.readEndDocument();
+                writer.writeEndDocument();
+                return;
+            case ARRAY:
+                reader.readStartArray();
+                writer.writeStartArray();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    pipe(reader, writer);
+                }
+                reader.readEndArray();
+                writer.writeEndArray();
+                return;
+            default:
+                VALUES.encode(writer, VALUES.decode(reader, DECODER_CONTEXT), ENCODER_CONTEXT);
+        }
+    }
+
+    private static void register(final Compressor compressor) {
+        Compressor existing = COMPRESSORS.putIfAbsent(compressor.getId(), compressor);
+        if (existing != null && !existing.getClass().equals(compressor.getClass())) {
+            throw new MappingException(Sofia.duplicateCompressorId(compressor.getId(), existing.getClass().getName(),
+                compressor.getClass().getName()));
+        }
+    }
+}
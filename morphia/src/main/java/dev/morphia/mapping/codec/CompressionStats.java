@@ -0,0 +1,104 @@
+package dev.morphia.mapping.codec;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how well the values of a {@link dev.morphia.annotations.Compressed} field compress and how long it takes.  The statistics are
+ * kept per field by the {@link dev.morphia.mapping.Mapper} and are shared by the datastores sharing its mapping.
+ *
+ * @since 2.0
+ */
+public final class CompressionStats {
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder uncompressed = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+    private final LongAdder decompressionNanos = new LongAdder();
+
+    /**
+     * Creates an empty set of statistics
+     *
+     * @morphia.internal
+     * @see dev.morphia.mapping.Mapper#getCompressionStats(Class, String)
+     */
+    public CompressionStats() {
+    }
+
+    /**
+     * @return the number of values written compressed
+     */
+    public long getCompressedValues() {
+        return compressed.sum();
+    }
+
+    /**
+     * @return the number of values written as is because they were below the threshold
+     */
+    public long getUncompressedValues() {
+        return uncompressed.sum();
+    }
+
+    /**
+     * @return the total size of the compressed values before compression
+     */
+    public long getRawBytes() {
+        return rawBytes.sum();
+    }
+
+    /**
+     * @return the total size of the compressed values after compression
+     */
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    /**
+     * @return the compressed size as a fraction of the raw size or 1 if nothing has been compressed yet
+     */
+    public double getRatio() {
+        long raw = getRawBytes();
+        return raw == 0 ? 1 : (double) getCompressedBytes() / raw;
+    }
+
+    /**
+     * @return the total time spent compressing in nanoseconds
+     */
+    public long getCompressionNanos() {
+        return compressionNanos.sum();
+    }
+
+    /**
+     * @return the total time spent decompressing in nanoseconds
+     */
+    public long getDecompressionNanos() {
+        return decompressionNanos.sum();
+    }
+
+    void compressed(final int raw, final int size, final long nanos) {
+        compressed.increment();
+        rawBytes.add(raw);
+        compressedBytes.add(size);
+        compressionNanos.add(nanos);
+    }
+
+    void uncompressed() {
+        uncompressed.increment();
+    }
+
+    void decompressed(final long nanos) {
+        decompressionNanos.add(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CompressionStats.class.getSimpleName() + "[", "]")
+                   .add("compressed=" + compressed)
+                   .add("uncompressed=" + uncompressed)
+                   .add("ratio=" + getRatio())
+                   .add("compressionNanos=" + compressionNanos)
+                   .add("decompressionNanos=" + decompressionNanos)
+                   .toString();
+    }
+}
@@ -0,0 +1,34 @@
+package dev.morphia.mapping.codec;
+
+/**
+ * Compresses the values of {@link dev.morphia.annotations.Compressed} fields.  Implementations need a public no argument constructor and
+ * should be registered with the {@link java.util.ServiceLoader} so values they compressed can be read even after a field switches to
+ * another compressor.
+ *
+ * @since 2.0
+ */
+public interface Compressor {
+    /**
+     * The id stored with each value this compressor compressed.  Ids 0 to 15 are reserved for compressors shipped with Morphia.
+     *
+     * @return the id
+     */
+    byte getId();
+
+    /**
+     * Compresses a value
+     *
+     * @param data the data to compress
+     * @return the compressed data
+     */
+    byte[] compress(byte[] data);
+
+    /**
+     * Decompresses a value
+     *
+     * @param data   the compressed data
+     * @param length the length of the uncompressed data.  This is never negative or larger than the BSON document size limit.
+     * @return the uncompressed data
+     */
+    byte[] decompress(byte[] data, int length);
+}
@@ -0,0 +1,68 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.MappingException;
+import dev.morphia.sofia.Sofia;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses values using the JDK's {@link Deflater}
+ *
+ * @since 2.0
+ */
+public class DeflateCompressor implements Compressor {
+    /**
+     * The id of this compressor
+     */
+    public static final byte ID = 1;
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public byte[] compress(final byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(final byte[] data, final int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] result = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int count = inflater.inflate(result, read, length - read);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += count;
+            }
+            if (read != length) {
+                throw new MappingException(Sofia.compressedValueTruncated(read, length));
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new MappingException(e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -1,37 +1,86 @@
 package dev.morphia.mapping.codec;
 
+import dev.morphia.annotations.EnumCode;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.sofia.Sofia;
 import org.bson.BsonReader;
+import org.bson.BsonType;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
 /**
- * An enum codec
+ * An enum codec.  Enums are stored by name unless their constants are annotated with {@link EnumCode} in which case the codes are stored
+ * instead.  Codes are decoded through a lookup table built when the codec is created.  Coded enums still read values stored by name.
  *
  * @param <T> the type of the enum
  * @morphia.internal
  * @since 2.0
  */
 public class EnumCodec<T extends Enum<T>> implements Codec<T> {
+    private static final int MAX_TABLE_SIZE = 1024;
+
     private final Class<T> type;
+    private final int[] codes;
+    private final T[] table;
+    private final int[] sortedCodes;
+    private final T[] sortedConstants;
 
     /**
      * Creates a codec for the given type
      *
      * @param type the type
      */
+    @SuppressWarnings("unchecked")
     public EnumCodec(final Class<T> type) {
         this.type = type;
+        T[] constants = type.getEnumConstants();
+        int[] byOrdinal = readCodes(type, constants);
+        codes = byOrdinal;
+        if (byOrdinal == null) {
+            table = null;
+            sortedCodes = null;
+            sortedConstants = null;
+            return;
+        }
+
+        int min = Arrays.stream(byOrdinal).min().orElse(0);
+        int max = Arrays.stream(byOrdinal).max().orElse(0);
+        if (min >= 0 && max < MAX_TABLE_SIZE) {
+            table = (T[]) Array.newInstance(type, max + 1);
+            for (final T constant : constants) {
+                table[byOrdinal[constant.ordinal()]] = constant;
+            }
+            sortedCodes = null;
+            sortedConstants = null;
+        } else {
+            table = null;
+            T[] sorted = constants.clone();
+            Arrays.sort(sorted, (first, second) -> Integer.compare(byOrdinal[first.ordinal()], byOrdinal[second.ordinal()]));
+            sortedConstants = sorted;
+            sortedCodes = Arrays.stream(sorted).mapToInt(constant -> byOrdinal[constant.ordinal()]).toArray();
+        }
     }
 
     @Override
     public void encode(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
-        writer.writeString(value.name());
+        if (codes != null) {
+            writer.writeInt32(codes[value.ordinal()]);
+        } else {
+            writer.writeString(value.name());
+        }
     }
 
     @Override
     public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (codes != null && reader.getCurrentBsonType() == BsonType.INT32) {
+            return fromCode(reader.readInt32());
+        }
         return Enum.valueOf(type, reader.readString());
     }
 
@@ -39,4 +88,62 @@ public class EnumCodec<T extends Enum<T>> implements Codec<T> {
     public Class<T> getEncoderClass() {
         return type;
     }
+
+    /**
+     * @return true if this enum is stored using its {@link EnumCode} values
+     */
+    public boolean isCoded() {
+        return codes != null;
+    }
+
+    private T fromCode(final int code) {
+        T constant = null;
+        if (table != null) {
+            if (code >= 0 && code < table.length) {
+                constant = table[code];
+            }
+        } else {
+            int index = Arrays.binarySearch(sortedCodes, code);
+            if (index >= 0) {
+                constant = sortedConstants[index];
+            }
+        }
+        if (constant == null) {
+            throw new MappingException(Sofia.unknownEnumCode(type.getName(), code));
+        }
+        return constant;
+    }
+
+    private static <T extends Enum<T>> int[] readCodes(final Class<T> type, final T[] constants) {
+        int[] codes = new int[constants.length];
+        T[] missing = constants.clone();
+        boolean coded = false;
+        for (final Field field : type.getDeclaredFields()) {
+            if (field.isEnumConstant()) {
+                EnumCode code = field.getAnnotation(EnumCode.class);
+                if (code != null) {
+                    int ordinal = Enum.valueOf(type, field.getName()).ordinal();
+                    codes[ordinal] = code.value();
+                    missing[ordinal] = null;
+                    coded = true;
+                }
+            }
+        }
+        if (!coded) {
+            return null;
+        }
+
+        for (final T constant : constants) {
+            if (missing[constant.ordinal()] != null) {
+                throw new MappingException(Sofia.enumCodeMissing(type.getName(), constant.name()));
+            }
+            for (final T other : constants) {
+                if (other.ordinal() < constant.ordinal() && codes[other.ordinal()] == codes[constant.ordinal()]) {
+                    throw new MappingException(Sofia.enumCodeDuplicated(type.getName(), other.name(), constant.name(),
+                        codes[constant.ordinal()]));
+                }
+            }
+        }
+        return codes;
+    }
 }
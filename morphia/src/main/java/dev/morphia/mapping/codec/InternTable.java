@@ -0,0 +1,136 @@
+package dev.morphia.mapping.codec;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A bounded table of the decoded values of an {@link dev.morphia.annotations.Interned} field.  Values are found by the hash of their UTF-8
+ * bytes.  Each slot holds one value so a value whose slot is taken by another replaces it rather than the table growing.  Tables are kept
+ * per field by the {@link dev.morphia.mapping.Mapper} and are shared by the datastores sharing its mapping.
+ *
+ * @since 2.0
+ */
+public final class InternTable {
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an empty table
+     *
+     * @param capacity the number of values to hold.  This is rounded up to a power of two.
+     * @morphia.internal
+     * @see dev.morphia.mapping.Mapper#getInternTable(Class, String)
+     */
+    public InternTable(final int capacity) {
+        entries = new AtomicReferenceArray<>(slots(capacity));
+        mask = entries.length() - 1;
+    }
+
+    /**
+     * @param capacity the requested capacity
+     * @return true if this table was created for the given capacity
+     * @morphia.internal
+     */
+    public boolean hasCapacity(final int capacity) {
+        return getCapacity() == slots(capacity);
+    }
+
+    /**
+     * @return the number of slots in the table
+     */
+    public int getCapacity() {
+        return entries.length();
+    }
+
+    /**
+     * @return the number of slots in use
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    /**
+     * @return the number of values found in the table
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of values not found in the table
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the fraction of values found in the table or 0 if nothing has been looked up yet
+     */
+    public double getHitRate() {
+        long hit = getHits();
+        long total = hit + getMisses();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    String intern(final byte[] bytes, final int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        int index = (hash ^ hash >>> 16) & mask;
+        Entry entry = entries.get(index);
+        if (entry != null && entry.hash == hash && Arrays.equals(entry.bytes, 0, entry.bytes.length, bytes, 0, length)) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        byte[] copy = Arrays.copyOf(bytes, length);
+        Entry created = new Entry(hash, copy, new String(copy, UTF_8));
+        if (entry == null && entries.compareAndSet(index, null, created)) {
+            size.incrementAndGet();
+        } else {
+            entries.set(index, created);
+        }
+        return created.value;
+    }
+
+    String intern(final String value) {
+        byte[] bytes = value.getBytes(UTF_8);
+        return intern(bytes, bytes.length);
+    }
+
+    private static int slots(final int capacity) {
+        return Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", InternTable.class.getSimpleName() + "[", "]")
+                   .add("capacity=" + getCapacity())
+                   .add("size=" + size)
+                   .add("hits=" + hits)
+                   .add("misses=" + misses)
+                   .toString();
+    }
+
+    private static final class Entry {
+        private final int hash;
+        private final byte[] bytes;
+        private final String value;
+
+        private Entry(final int hash, final byte[] bytes, final String value) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+        }
+    }
+}
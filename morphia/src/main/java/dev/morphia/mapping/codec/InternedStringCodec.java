@@ -0,0 +1,78 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Interned;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.sofia.Sofia;
+import morphia.org.bson.codecs.pojo.TypeData;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BsonInput;
+import org.bson.io.BsonInputMark;
+
+import java.lang.reflect.Field;
+
+/**
+ * Decodes the values of {@link Interned} fields through an {@link InternTable}.  When reading raw BSON the bytes of the value are looked
+ * up directly and the reader skips over the value so no {@code String} is created for values already in the table.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class InternedStringCodec extends PropertyCodec<String> {
+    private final InternTable table;
+    private final int maxLength;
+    private final ThreadLocal<byte[]> buffer;
+
+    /**
+     * Creates a codec
+     *
+     * @param datastore the datastore
+     * @param field     the interned field
+     * @param typeData  the field type data
+     */
+    public InternedStringCodec(final Datastore datastore, final Field field, final TypeData typeData) {
+        super(datastore, field, typeData);
+        if (field.getType() != String.class) {
+            throw new MappingException(Sofia.internedTypeNotSupported(field.getDeclaringClass().getName(), field.getName()));
+        }
+        Interned interned = field.getAnnotation(Interned.class);
+        table = datastore.getMapper().getInternTable(field, interned.capacity());
+        maxLength = interned.maxLength();
+        buffer = ThreadLocal.withInitial(() -> new byte[maxLength]);
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final String value, final EncoderContext encoderContext) {
+        writer.writeString(value);
+    }
+
+    @Override
+    public String decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (reader instanceof BsonBinaryReader && reader.getCurrentBsonType() == BsonType.STRING) {
+            BsonInput input = ((BsonBinaryReader) reader).getBsonInput();
+            BsonInputMark mark = input.getMark(Integer.MAX_VALUE);
+            // the size includes the trailing null
+            int length = input.readInt32() - 1;
+            if (length >= 0 && length <= maxLength) {
+                byte[] bytes = buffer.get();
+                input.readBytes(bytes, 0, length);
+                mark.reset();
+                reader.skipValue();
+                return table.intern(bytes, length);
+            }
+            mark.reset();
+        }
+        String value = reader.readString();
+        return value.length() <= maxLength ? table.intern(value) : value;
+    }
+
+    @Override
+    public Class<String> getEncoderClass() {
+        return String.class;
+    }
+}
@@ -83,6 +83,11 @@ public class MorphiaCodecProvider implements CodecProvider {
                             }
                         };
                     }
+
+                    @Override
+                    protected T newInstance(final EntityModel<T> classModel) {
+                        return entity;
+                    }
                 };
             }
         };
@@ -37,14 +37,16 @@ public class MorphiaTypesCodecProvider implements CodecProvider {
         addCodec(new MorphiaQueryCodec(mapper));
         addCodec(new URICodec());
 
-        List.of(boolean.class, Boolean.class,
+        PrimitiveArrayCodec.codecs(mapper).forEach(this::addCodec);
+        PackedGeometryCodec.codecs().forEach(this::addCodec);
+        List.of(Boolean.class,
             byte.class, Byte.class,
-            char.class, Character.class,
-            double.class, Double.class,
-            float.class, Float.class,
-            int.class, Integer.class,
-            long.class, Long.class,
-            short.class, Short.class).forEach(c -> addCodec(new TypedArrayCodec(c, mapper)));
+            Character.class,
+            Double.class,
+            Float.class,
+            Integer.class,
+            Long.class,
+            Short.class).forEach(c -> addCodec(new TypedArrayCodec(c, mapper)));
     }
 
     protected <T> void addCodec(final Codec<T> codec) {
@@ -0,0 +1,172 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.Datastore;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.sofia.Sofia;
+import morphia.org.bson.codecs.pojo.TypeData;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+
+/**
+ * Stores arrays of numeric primitives as a single binary value.  The value starts with a one byte type code, the JVM descriptor of the
+ * component type, followed by the number of elements as a 32 bit integer and then the elements themselves.  Everything is little endian.
+ * Values stored as BSON arrays are decoded with the regular codec for the field type.
+ *
+ * @morphia.internal
+ * @see dev.morphia.annotations.Packed
+ * @since 2.0
+ */
+public class PackedArrayCodec extends PropertyCodec<Object> {
+    /**
+     * The binary subtype used for packed arrays
+     */
+    public static final BsonBinarySubType SUBTYPE = BsonBinarySubType.USER_DEFINED;
+    private static final int HEADER = 5;
+    private static final Map<Class<?>, Character> CODES = Map.of(short.class, 'S',
+        char.class, 'C',
+        int.class, 'I',
+        long.class, 'J',
+        float.class, 'F',
+        double.class, 'D');
+
+    private final Class<?> componentType;
+    private Codec<Object> arrayCodec;
+
+    /**
+     * Creates a codec
+     *
+     * @param datastore the datastore
+     * @param field     the packed field
+     * @param typeData  the field type data
+     */
+    public PackedArrayCodec(final Datastore datastore, final Field field, final TypeData typeData) {
+        super(datastore, field, typeData);
+        componentType = field.getType().getComponentType();
+        if (componentType == null || !CODES.containsKey(componentType)) {
+            throw new MappingException(Sofia.packedTypeNotSupported(field.getDeclaringClass().getName(), field.getName()));
+        }
+    }
+
+    /**
+     * Packs an array
+     *
+     * @param array the array of primitives to pack
+     * @return the packed bytes
+     */
+    public static byte[] pack(final Object array) {
+        Class<?> type = array.getClass().getComponentType();
+        int length = Array.getLength(array);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER + length * width(type)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) CODES.get(type).charValue());
+        buffer.putInt(length);
+        if (type == double.class) {
+            buffer.asDoubleBuffer().put((double[]) array);
+        } else if (type == float.class) {
+            buffer.asFloatBuffer().put((float[]) array);
+        } else if (type == long.class) {
+            buffer.asLongBuffer().put((long[]) array);
+        } else if (type == int.class) {
+            buffer.asIntBuffer().put((int[]) array);
+        } else if (type == char.class) {
+            buffer.asCharBuffer().put((char[]) array);
+        } else {
+            buffer.asShortBuffer().put((short[]) array);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Unpacks an array
+     *
+     * @param data          the packed bytes
+     * @param componentType the expected component type
+     * @return the array
+     */
+    public static Object unpack(final byte[] data, final Class<?> componentType) {
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        Character code = CODES.get(componentType);
+        if (data.length < HEADER || code == null || buffer.get() != code) {
+            throw new MappingException(Sofia.packedTypeMismatch(componentType.getName()));
+        }
+        int length = buffer.getInt();
+        int width = width(componentType);
+        // checked by division first so a corrupt length can neither overflow the product nor trigger a huge allocation
+        if (length < 0 || length > buffer.remaining() / width || buffer.remaining() != length * width) {
+            throw new MappingException(Sofia.packedTypeMismatch(componentType.getName()));
+        }
+        if (componentType == double.class) {
+            double[] values = new double[length];
+            buffer.asDoubleBuffer().get(values);
+            return values;
+        } else if (componentType == float.class) {
+            float[] values = new float[length];
+            buffer.asFloatBuffer().get(values);
+            return values;
+        } else if (componentType == long.class) {
+            long[] values = new long[length];
+            buffer.asLongBuffer().get(values);
+            return values;
+        } else if (componentType == int.class) {
+            int[] values = new int[length];
+            buffer.asIntBuffer().get(values);
+            return values;
+        } else if (componentType == char.class) {
+            char[] values = new char[length];
+            buffer.asCharBuffer().get(values);
+            return values;
+        } else {
+            short[] values = new short[length];
+            buffer.asShortBuffer().get(values);
+            return values;
+        }
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final Object value, final EncoderContext encoderContext) {
+        writer.writeBinaryData(new BsonBinary(SUBTYPE, pack(value)));
+    }
+
+    @Override
+    public Object decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() == BsonType.BINARY) {
+            return unpack(reader.readBinaryData().getData(), componentType);
+        }
+        return decoderContext.decodeWithChildContext(getArrayCodec(), reader);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<Object> getEncoderClass() {
+        return (Class<Object>) getField().getType();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Codec<Object> getArrayCodec() {
+        if (arrayCodec == null) {
+            arrayCodec = (Codec<Object>) getDatastore().getMapper().getCodecRegistry().get(getField().getType());
+        }
+        return arrayCodec;
+    }
+
+    private static int width(final Class<?> type) {
+        if (type == double.class || type == long.class) {
+            return Long.BYTES;
+        }
+        if (type == float.class || type == int.class) {
+            return Integer.BYTES;
+        }
+        return Short.BYTES;
+    }
+}
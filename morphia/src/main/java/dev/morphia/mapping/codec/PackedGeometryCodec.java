@@ -0,0 +1,236 @@
+package dev.morphia.mapping.codec;
+
+import com.mongodb.client.model.geojson.GeoJsonObjectType;
+import dev.morphia.geo.PackedGeometry;
+import dev.morphia.geo.PackedLineString;
+import dev.morphia.geo.PackedMultiPolygon;
+import dev.morphia.geo.PackedPoint;
+import dev.morphia.geo.PackedPolygon;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encodes and decodes {@link PackedGeometry} types in the standard GeoJSON form.  Coordinates are written from and read in to
+ * {@code double} arrays directly so no boxed values or intermediate lists are created.  Fields other than {@code type} and
+ * {@code coordinates}, such as {@code crs}, are skipped when decoding.
+ *
+ * @param <T> the geometry type
+ */
+abstract class PackedGeometryCodec<T extends PackedGeometry> implements Codec<T> {
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final Class<T> type;
+    private final GeoJsonObjectType geoJsonType;
+
+    PackedGeometryCodec(final Class<T> type, final GeoJsonObjectType geoJsonType) {
+        this.type = type;
+        this.geoJsonType = geoJsonType;
+    }
+
+    /**
+     * Creates a codec for each packed geometry type
+     *
+     * @return the codecs
+     */
+    static List<PackedGeometryCodec<?>> codecs() {
+        return List.of(new PointCodec(),
+            new LineStringCodec(),
+            new PolygonCodec(),
+            new MultiPolygonCodec());
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return type;
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeString("type", geoJsonType.getTypeName());
+        writer.writeName("coordinates");
+        encodeCoordinates(writer, value);
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        T value = null;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (name.equals("type")) {
+                String found = reader.readString();
+                if (!found.equals(geoJsonType.getTypeName())) {
+                    throw new MappingException(Sofia.geometryTypeMismatch(geoJsonType.getTypeName(), found));
+                }
+            } else if (name.equals("coordinates")) {
+                value = decodeCoordinates(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return value;
+    }
+
+    abstract void encodeCoordinates(BsonWriter writer, T value);
+
+    abstract T decodeCoordinates(BsonReader reader);
+
+    static void writePositions(final BsonWriter writer, final double[] coordinates) {
+        writer.writeStartArray();
+        for (int i = 0; i < coordinates.length; i += 2) {
+            writer.writeStartArray();
+            writer.writeDouble(coordinates[i]);
+            writer.writeDouble(coordinates[i + 1]);
+            writer.writeEndArray();
+        }
+        writer.writeEndArray();
+    }
+
+    static double[] readPositions(final BsonReader reader) {
+        reader.readStartArray();
+        double[] values = new double[INITIAL_CAPACITY];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            readPosition(reader, values, size);
+            size += 2;
+        }
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    static void readPosition(final BsonReader reader, final double[] values, final int offset) {
+        reader.readStartArray();
+        reader.readBsonType();
+        values[offset] = readNumber(reader);
+        reader.readBsonType();
+        values[offset + 1] = readNumber(reader);
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            reader.skipValue();
+        }
+        reader.readEndArray();
+    }
+
+    static double readNumber(final BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case INT32:
+                return reader.readInt32();
+            case INT64:
+                return reader.readInt64();
+            default:
+                return reader.readDouble();
+        }
+    }
+
+    static double[][] readRings(final BsonReader reader) {
+        List<double[]> rings = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            rings.add(readPositions(reader));
+        }
+        reader.readEndArray();
+        return rings.toArray(new double[0][]);
+    }
+
+    static void writeRings(final BsonWriter writer, final double[][] rings) {
+        writer.writeStartArray();
+        for (final double[] ring : rings) {
+            writePositions(writer, ring);
+        }
+        writer.writeEndArray();
+    }
+
+    static class PointCodec extends PackedGeometryCodec<PackedPoint> {
+        PointCodec() {
+            super(PackedPoint.class, GeoJsonObjectType.POINT);
+        }
+
+        @Override
+        void encodeCoordinates(final BsonWriter writer, final PackedPoint value) {
+            writer.writeStartArray();
+            writer.writeDouble(value.getLongitude());
+            writer.writeDouble(value.getLatitude());
+            writer.writeEndArray();
+        }
+
+        @Override
+        PackedPoint decodeCoordinates(final BsonReader reader) {
+            double[] position = new double[2];
+            readPosition(reader, position, 0);
+            return new PackedPoint(position[0], position[1]);
+        }
+    }
+
+    static class LineStringCodec extends PackedGeometryCodec<PackedLineString> {
+        LineStringCodec() {
+            super(PackedLineString.class, GeoJsonObjectType.LINE_STRING);
+        }
+
+        @Override
+        void encodeCoordinates(final BsonWriter writer, final PackedLineString value) {
+            writePositions(writer, value.getCoordinates());
+        }
+
+        @Override
+        PackedLineString decodeCoordinates(final BsonReader reader) {
+            return new PackedLineString(readPositions(reader));
+        }
+    }
+
+    static class PolygonCodec extends PackedGeometryCodec<PackedPolygon> {
+        PolygonCodec() {
+            super(PackedPolygon.class, GeoJsonObjectType.POLYGON);
+        }
+
+        @Override
+        void encodeCoordinates(final BsonWriter writer, final PackedPolygon value) {
+            writeRings(writer, value.getRings());
+        }
+
+        @Override
+        PackedPolygon decodeCoordinates(final BsonReader reader) {
+            return new PackedPolygon(readRings(reader));
+        }
+    }
+
+    static class MultiPolygonCodec extends PackedGeometryCodec<PackedMultiPolygon> {
+        MultiPolygonCodec() {
+            super(PackedMultiPolygon.class, GeoJsonObjectType.MULTI_POLYGON);
+        }
+
+        @Override
+        void encodeCoordinates(final BsonWriter writer, final PackedMultiPolygon value) {
+            writer.writeStartArray();
+            for (final PackedPolygon polygon : value.getPolygons()) {
+                writeRings(writer, polygon.getRings());
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        PackedMultiPolygon decodeCoordinates(final BsonReader reader) {
+            List<PackedPolygon> polygons = new ArrayList<>();
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                polygons.add(new PackedPolygon(readRings(reader)));
+            }
+            reader.readEndArray();
+            return new PackedMultiPolygon(polygons.toArray(new PackedPolygon[0]));
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Encodes and decodes arrays of primitives without boxing the elements.  Elements stored with the BSON type matching the component type
+ * are read directly in to the array.  Any other element is decoded by the codec of the boxed type so values written with other numeric
+ * types are converted exactly as they would be for a single field.  BSON arrays do not carry their length so decoded arrays are grown as
+ * needed and trimmed once the array ends.
+ *
+ * @param <T> the array type
+ */
+abstract class PrimitiveArrayCodec<T> implements Codec<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Mapper mapper;
+    private final Class<T> type;
+    private final Class<?> boxed;
+    private Codec<?> codec;
+
+    PrimitiveArrayCodec(final Mapper mapper, final Class<T> type, final Class<?> boxed) {
+        this.mapper = mapper;
+        this.type = type;
+        this.boxed = boxed;
+    }
+
+    /**
+     * Creates a codec for each primitive array type other than {@code byte[]} which is stored as binary data
+     *
+     * @param mapper the mapper to use
+     * @return the codecs
+     */
+    static List<PrimitiveArrayCodec<?>> codecs(final Mapper mapper) {
+        return List.of(new BooleanArrayCodec(mapper),
+            new CharArrayCodec(mapper),
+            new DoubleArrayCodec(mapper),
+            new FloatArrayCodec(mapper),
+            new IntArrayCodec(mapper),
+            new LongArrayCodec(mapper),
+            new ShortArrayCodec(mapper));
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s<%s>", getClass().getName(), type.getComponentType().getSimpleName());
+    }
+
+    Object fallback(final BsonReader reader, final DecoderContext decoderContext) {
+        if (codec == null) {
+            codec = mapper.getCodecRegistry().get(boxed);
+        }
+        return codec.decode(reader, decoderContext);
+    }
+
+    static BsonInvalidOperationException invalid(final Object value, final Class<?> type) {
+        return new BsonInvalidOperationException(format("%s can not be converted into a %s.", value, type.getSimpleName()));
+    }
+
+    static class BooleanArrayCodec extends PrimitiveArrayCodec<boolean[]> {
+        BooleanArrayCodec(final Mapper mapper) {
+            super(mapper, boolean[].class, Boolean.class);
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final boolean[] value, final EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (final boolean element : value) {
+                writer.writeBoolean(element);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public boolean[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+            reader.readStartArray();
+            boolean[] values = new boolean[INITIAL_CAPACITY];
+            int size = 0;
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = reader.getCurrentBsonType() == BsonType.BOOLEAN
+                                 ? reader.readBoolean()
+                                 : (Boolean) fallback(reader, decoderContext);
+            }
+            reader.readEndArray();
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    static class CharArrayCodec extends PrimitiveArrayCodec<char[]> {
+        CharArrayCodec(final Mapper mapper) {
+            super(mapper, char[].class, Character.class);
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final char[] value, final EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (final char element : value) {
+                writer.writeString(String.valueOf(element));
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public char[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+            reader.readStartArray();
+            char[] values = new char[INITIAL_CAPACITY];
+            int size = 0;
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                if (reader.getCurrentBsonType() == BsonType.STRING) {
+                    String string = reader.readString();
+                    if (string.length() != 1) {
+                        throw invalid(string, Character.class);
+                    }
+                    values[size++] = string.charAt(0);
+                } else {
+                    values[size++] = (Character) fallback(reader, decoderContext);
+                }
+            }
+            reader.readEndArray();
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    static class DoubleArrayCodec extends PrimitiveArrayCodec<double[]> {
+        DoubleArrayCodec(final Mapper mapper) {
+            super(mapper, double[].class, Double.class);
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final double[] value, final EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (final double element : value) {
+                writer.writeDouble(element);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public double[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+            reader.readStartArray();
+            double[] values = new double[INITIAL_CAPACITY];
+            int size = 0;
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = reader.getCurrentBsonType() == BsonType.DOUBLE
+                                 ? reader.readDouble()
+                                 : (Double) fallback(reader, decoderContext);
+            }
+            reader.readEndArray();
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    static class FloatArrayCodec extends PrimitiveArrayCodec<float[]> {
+        FloatArrayCodec(final Mapper mapper) {
+            super(mapper, float[].class, Float.class);
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final float[] value, final EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (final float element : value) {
+                writer.writeDouble(element);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public float[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+            reader.readStartArray();
+            float[] values = new float[INITIAL_CAPACITY];
+            int size = 0;
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                if (reader.getCurrentBsonType() == BsonType.DOUBLE) {
+                    double element = reader.readDouble();
+                    if (element < -Float.MAX_VALUE || element > Float.MAX_VALUE) {
+                        throw invalid(element, Float.class);
+                    }
+                    values[size++] = (float) element;
+                } else {
+                    values[size++] = (Float) fallback(reader, decoderContext);
+                }
+            }
+            reader.readEndArray();
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    static class IntArrayCodec extends PrimitiveArrayCodec<int[]> {
+        IntArrayCodec(final Mapper mapper) {
+            super(mapper, int[].class, Integer.class);
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final int[] value, final EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (final int element : value) {
+                writer.writeInt32(element);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public int[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+            reader.readStartArray();
+            int[] values = new int[INITIAL_CAPACITY];
+            int size = 0;
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = reader.getCurrentBsonType() == BsonType.INT32
+                                 ? reader.readInt32()
+                                 : (Integer) fallback(reader, decoderContext);
+            }
+            reader.readEndArray();
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    static class LongArrayCodec extends PrimitiveArrayCodec<long[]> {
+        LongArrayCodec(final Mapper mapper) {
+            super(mapper, long[].class, Long.class);
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final long[] value, final EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (final long element : value) {
+                writer.writeInt64(element);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public long[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+            reader.readStartArray();
+            long[] values = new long[INITIAL_CAPACITY];
+            int size = 0;
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                BsonType bsonType = reader.getCurrentBsonType();
+                if (bsonType == BsonType.INT64) {
+                    values[size++] = reader.readInt64();
+                } else if (bsonType == BsonType.INT32) {
+                    values[size++] = reader.readInt32();
+                } else {
+                    values[size++] = (Long) fallback(reader, decoderContext);
+                }
+            }
+            reader.readEndArray();
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    static class ShortArrayCodec extends PrimitiveArrayCodec<short[]> {
+        ShortArrayCodec(final Mapper mapper) {
+            super(mapper, short[].class, Short.class);
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final short[] value, final EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (final short element : value) {
+                writer.writeInt32(element);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public short[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+            reader.readStartArray();
+            short[] values = new short[INITIAL_CAPACITY];
+            int size = 0;
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                if (reader.getCurrentBsonType() == BsonType.INT32) {
+                    int element = reader.readInt32();
+                    if (element < Short.MIN_VALUE || element > Short.MAX_VALUE) {
+                        throw invalid(element, Short.class);
+                    }
+                    values[size++] = (short) element;
+                } else {
+                    values[size++] = (Short) fallback(reader, decoderContext);
+                }
+            }
+            reader.readEndArray();
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+}
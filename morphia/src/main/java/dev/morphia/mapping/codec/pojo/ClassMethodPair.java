@@ -16,17 +16,15 @@ import java.util.List;
 public class ClassMethodPair {
     private final Class<?> type;
     private final Method method;
-    private final Datastore datastore;
     private Class<? extends Annotation> event;
 
-    ClassMethodPair(final Datastore datastore, final Method method, final Class<?> type, final Class<? extends Annotation> event) {
+    ClassMethodPair(final Method method, final Class<?> type, final Class<? extends Annotation> event) {
         this.event = event;
         this.type = type;
         this.method = method;
-        this.datastore = datastore;
     }
 
-    void invoke(final Document document, final Object entity) {
+    void invoke(final Datastore datastore, final Document document, final Object entity) {
         try {
             Object instance;
             if (type != null) {
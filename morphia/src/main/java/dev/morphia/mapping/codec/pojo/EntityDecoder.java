@@ -3,8 +3,10 @@ package dev.morphia.mapping.codec.pojo;
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.mapping.DiscriminatorLookup;
+import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
 import org.bson.BsonReaderMark;
@@ -14,8 +16,16 @@ import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BsonInput;
+import org.bson.io.BsonInputMark;
+import org.bson.types.ObjectId;
+
+import java.util.Date;
+import java.util.Map;
 
 import static dev.morphia.mapping.codec.Conversions.convert;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Map.entry;
 
 /**
  * @param <T> the entity type
@@ -23,54 +33,65 @@ import static dev.morphia.mapping.codec.Conversions.convert;
  * @since 2.0
  */
 public class EntityDecoder<T> implements org.bson.codecs.Decoder<T> {
+    private static final DecoderContext CHECKED_DISCRIMINATOR = DecoderContext.builder().checkedDiscriminator(true).build();
+
+    /**
+     * The BSON types every codec for these field types reads without converting so they can be decoded without marking the reader
+     */
+    private static final Map<Class<?>, BsonType> NATIVE_TYPES = Map.ofEntries(
+        entry(String.class, BsonType.STRING),
+        entry(ObjectId.class, BsonType.OBJECT_ID),
+        entry(Date.class, BsonType.DATE_TIME),
+        entry(boolean.class, BsonType.BOOLEAN),
+        entry(Boolean.class, BsonType.BOOLEAN),
+        entry(int.class, BsonType.INT32),
+        entry(Integer.class, BsonType.INT32),
+        entry(long.class, BsonType.INT64),
+        entry(Long.class, BsonType.INT64),
+        entry(double.class, BsonType.DOUBLE),
+        entry(Double.class, BsonType.DOUBLE));
+
     private final MorphiaCodec<T> morphiaCodec;
+    private final byte[] discriminator;
 
     protected EntityDecoder(final MorphiaCodec<T> morphiaCodec) {
         this.morphiaCodec = morphiaCodec;
+        String value = morphiaCodec.getEntityModel().getDiscriminator();
+        discriminator = value != null ? value.getBytes(UTF_8) : null;
     }
 
     @Override
     public T decode(final BsonReader reader, final DecoderContext decoderContext) {
         T entity;
-        if (morphiaCodec.getMappedClass().hasLifecycle(PreLoad.class)
-            || morphiaCodec.getMappedClass().hasLifecycle(PostLoad.class)
-            || morphiaCodec.getMapper().hasInterceptors()) {
+        if (!isPlain()) {
             entity = decodeWithLifecycle(reader, decoderContext);
         } else {
             EntityModel<T> classModel = morphiaCodec.getEntityModel();
-            if (decoderContext.hasCheckedDiscriminator()) {
+            boolean checked = decoderContext.hasCheckedDiscriminator();
+            T instance = checked || isLeaf() ? newInstance(classModel) : null;
+            entity = instance != null ? decodeInto(reader, decoderContext, instance, !checked && classModel.useDiscriminator()) : null;
+            if (entity == null && checked) {
                 MorphiaInstanceCreator<T> instanceCreator = getInstanceCreator(classModel);
                 decodeProperties(reader, decoderContext, instanceCreator);
                 return instanceCreator.getInstance();
-            } else {
-                entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(),
-                    morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
-                             .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+            } else if (entity == null) {
+                entity = instance == null && classModel.useDiscriminator() ? decodeWithLeadingDiscriminator(reader, decoderContext) : null;
+                if (entity == null) {
+                    entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(),
+                        morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
+                                 .decode(reader, CHECKED_DISCRIMINATOR);
+                }
             }
         }
 
         return entity;
     }
 
-    @SuppressWarnings("unchecked")
     protected <S> void decodeModel(final BsonReader reader, final DecoderContext decoderContext,
                                    final MorphiaInstanceCreator<T> instanceCreator, final FieldModel<S> model) {
 
         if (model != null) {
-            final BsonReaderMark mark = reader.getMark();
-            try {
-                S value = null;
-                if (reader.getCurrentBsonType() == BsonType.NULL) {
-                    reader.readNull();
-                } else {
-                    value = decoderContext.decodeWithChildContext(model.getCachedCodec(), reader);
-                }
-                instanceCreator.set(value, model);
-            } catch (BsonInvalidOperationException e) {
-                mark.reset();
-                final Object value = morphiaCodec.getMapper().getCodecRegistry().get(Object.class).decode(reader, decoderContext);
-                instanceCreator.set((S) convert(value, model.getTypeData().getType()), model);
-            }
+            instanceCreator.set(decodeValue(reader, decoderContext, model), model);
         } else {
             reader.skipValue();
         }
@@ -79,15 +100,7 @@ public class EntityDecoder<T> implements org.bson.codecs.Decoder<T> {
     protected void decodeProperties(final BsonReader reader, final DecoderContext decoderContext,
                                     final MorphiaInstanceCreator<T> instanceCreator) {
         reader.readStartDocument();
-        EntityModel<T> classModel = morphiaCodec.getEntityModel();
-        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-            String name = reader.readName();
-            if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
-                reader.readString();
-            } else {
-                decodeModel(reader, decoderContext, instanceCreator, classModel.getFieldModelByName(name));
-            }
-        }
+        decodeFields(reader, decoderContext, instanceCreator);
         reader.readEndDocument();
     }
 
@@ -121,6 +134,186 @@ public class EntityDecoder<T> implements org.bson.codecs.Decoder<T> {
         return classModel.getInstanceCreator();
     }
 
+    /**
+     * Creates the instance to decode a document in to when the fields can be set on it directly, saving an instance creator per document
+     *
+     * @param classModel the model of the type
+     * @return the new instance or null if the type is created with a constructor taking its fields
+     */
+    protected T newInstance(final EntityModel<T> classModel) {
+        return classModel.newInstance();
+    }
+
+    private void decodeFields(final BsonReader reader, final DecoderContext decoderContext,
+                              final MorphiaInstanceCreator<T> instanceCreator) {
+        EntityModel<T> classModel = morphiaCodec.getEntityModel();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
+                reader.readString();
+            } else {
+                decodeModel(reader, decoderContext, instanceCreator, classModel.getFieldModelByName(name));
+            }
+        }
+    }
+
+    /**
+     * Decodes the fields of a document directly in to an entity.  Types without mapped subtypes are decoded this way without first
+     * looking for the discriminator.  The discriminator is then only compared to this type's without being read in to a string.  Only
+     * when the discriminator is checked is the reader marked, once, so a document found to be for some other type, such as a subtype not
+     * mapped yet, can be rewound and decoded by that type's codec instead.
+     *
+     * @return the entity or null, with the reader rewound, if the document is for another type
+     */
+    @SuppressWarnings("unchecked")
+    private T decodeInto(final BsonReader reader, final DecoderContext decoderContext, final T entity, final boolean checkDiscriminator) {
+        EntityModel<T> classModel = morphiaCodec.getEntityModel();
+        BsonReaderMark mark = checkDiscriminator ? reader.getMark() : null;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
+                if (!checkDiscriminator) {
+                    reader.skipValue();
+                } else if (isForeignDiscriminator(reader)) {
+                    mark.reset();
+                    return null;
+                }
+            } else {
+                FieldModel<Object> model = (FieldModel<Object>) classModel.getFieldModelByName(name);
+                if (model != null) {
+                    model.getAccessor().set(entity, decodeValue(reader, decoderContext, model));
+                } else {
+                    reader.skipValue();
+                }
+            }
+        }
+        reader.readEndDocument();
+        return entity;
+    }
+
+    /**
+     * @return true if the discriminator names some other type than this one
+     */
+    private boolean isForeignDiscriminator(final BsonReader reader) {
+        if (discriminator != null && reader instanceof BsonBinaryReader && reader.getCurrentBsonType() == BsonType.STRING) {
+            BsonInput input = ((BsonBinaryReader) reader).getBsonInput();
+            BsonInputMark mark = input.getMark(Integer.MAX_VALUE);
+            boolean matches = matchesDiscriminator(input);
+            mark.reset();
+            if (matches) {
+                reader.skipValue();
+                return false;
+            }
+        }
+        return !morphiaCodec.getDiscriminatorLookup().lookup(reader.readString()).equals(morphiaCodec.getEntityModel().getType());
+    }
+
+    private boolean matchesDiscriminator(final BsonInput input) {
+        // the size includes the trailing null
+        if (input.readInt32() - 1 != discriminator.length) {
+            return false;
+        }
+        for (final byte value : discriminator) {
+            if (input.readByte() != value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S> S decodeValue(final BsonReader reader, final DecoderContext decoderContext, final FieldModel<S> model) {
+        BsonType bsonType = reader.getCurrentBsonType();
+        if (bsonType == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        if (NATIVE_TYPES.get(model.getTypeData().getType()) == bsonType) {
+            return decoderContext.decodeWithChildContext(morphiaCodec.getPropertyCodec(model), reader);
+        }
+        final BsonReaderMark mark = reader.getMark();
+        try {
+            return decoderContext.decodeWithChildContext(morphiaCodec.getPropertyCodec(model), reader);
+        } catch (BsonInvalidOperationException e) {
+            mark.reset();
+            final Object value = morphiaCodec.getMapper().getCodecRegistry().get(Object.class).decode(reader, decoderContext);
+            return (S) convert(value, model.getTypeData().getType());
+        }
+    }
+
+    /**
+     * Decodes documents whose discriminator is the first field, or the first after the ID, in a single pass.  Morphia writes
+     * discriminators there so the concrete type is known before any other field is read and its decoder can pick up from the next field
+     * rather than the document being rewound and read again.
+     *
+     * @return the entity or null, with the reader rewound, if the document can not be decoded this way
+     */
+    @SuppressWarnings("unchecked")
+    private T decodeWithLeadingDiscriminator(final BsonReader reader, final DecoderContext decoderContext) {
+        EntityModel<T> classModel = morphiaCodec.getEntityModel();
+        FieldModel<Object> idModel = (FieldModel<Object>) classModel.getIdModel();
+        BsonReaderMark mark = reader.getMark();
+        reader.readStartDocument();
+
+        Object id = null;
+        boolean hasId = false;
+        String name = readName(reader);
+        if (idModel != null && idModel.getMappedName().equals(name)) {
+            try {
+                if (reader.getCurrentBsonType() == BsonType.NULL) {
+                    reader.readNull();
+                } else {
+                    id = decoderContext.decodeWithChildContext(morphiaCodec.getPropertyCodec(idModel), reader);
+                }
+            } catch (BsonInvalidOperationException e) {
+                mark.reset();
+                return null;
+            }
+            hasId = true;
+            name = readName(reader);
+        }
+        if (!classModel.getDiscriminatorKey().equals(name) || reader.getCurrentBsonType() != BsonType.STRING) {
+            mark.reset();
+            return null;
+        }
+
+        Codec<T> codec = (Codec<T>) morphiaCodec.getRegistry().get(morphiaCodec.getDiscriminatorLookup().lookup(reader.readString()));
+        EntityDecoder<T> decoder = codec == morphiaCodec ? this
+                                   : codec instanceof MorphiaCodec ? ((MorphiaCodec<T>) codec).getEntityDecoder()
+                                   : null;
+        FieldModel<Object> concreteIdModel = decoder != null
+                                             ? (FieldModel<Object>) decoder.morphiaCodec.getEntityModel().getIdModel()
+                                             : null;
+        if (decoder == null || !decoder.isPlain() || hasId && concreteIdModel == null) {
+            mark.reset();
+            return null;
+        }
+
+        MorphiaInstanceCreator<T> instanceCreator = decoder.getInstanceCreator(decoder.morphiaCodec.getEntityModel());
+        if (hasId) {
+            instanceCreator.set(id, concreteIdModel);
+        }
+        decoder.decodeFields(reader, decoderContext, instanceCreator);
+        reader.readEndDocument();
+        return instanceCreator.getInstance();
+    }
+
+    private boolean isLeaf() {
+        MappedClass mappedClass = morphiaCodec.getMappedClass();
+        return !mappedClass.hasSubtypes() && !mappedClass.isAbstract();
+    }
+
+    private boolean isPlain() {
+        return !morphiaCodec.getMappedClass().hasLifecycle(PreLoad.class)
+               && !morphiaCodec.getMappedClass().hasLifecycle(PostLoad.class)
+               && !morphiaCodec.getMapper().hasInterceptors();
+    }
+
+    private static String readName(final BsonReader reader) {
+        return reader.readBsonType() != BsonType.END_OF_DOCUMENT ? reader.readName() : null;
+    }
+
     private T decodeWithLifecycle(final BsonReader reader, final DecoderContext decoderContext) {
         final T entity;
         final MorphiaInstanceCreator<T> instanceCreator = getInstanceCreator(morphiaCodec.getEntityModel());
@@ -109,7 +109,7 @@ class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
                 writer.writeNull();
             } else {
                 try {
-                    encoderContext.encodeWithChildContext(model.getCachedCodec(), writer, propertyValue);
+                    encoderContext.encodeWithChildContext(morphiaCodec.getPropertyCodec(model), writer, propertyValue);
                 } catch (CodecConfigurationException e) {
                     throw new CodecConfigurationException(String.format("Failed to encode '%s'. Encoding '%s' errored with: %s",
                         morphiaCodec.getEntityModel().getName(), model.getMappedName(), e.getMessage()), e);
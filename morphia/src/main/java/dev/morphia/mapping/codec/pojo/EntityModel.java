@@ -1,6 +1,5 @@
 package dev.morphia.mapping.codec.pojo;
 
-import dev.morphia.Datastore;
 import dev.morphia.EntityInterceptor;
 import dev.morphia.annotations.EntityListeners;
 import dev.morphia.annotations.PostLoad;
@@ -47,14 +46,13 @@ public class EntityModel<T> {
     private final Map<Class<? extends Annotation>, List<Annotation>> annotations;
     private final Map<String, FieldModel<?>> fieldModelsByField;
     private final Map<Object, FieldModel<?>> fieldModelsByMappedName;
-    private final Datastore datastore;
-    private final InstanceCreatorFactory<T> creatorFactory;
+    private final InstanceCreatorFactoryImpl<T> creatorFactory;
     private final boolean discriminatorEnabled;
     private final String discriminatorKey;
     private final String discriminator;
     private final Class<T> type;
     private final String collectionName;
-    private Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
+    private volatile Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
 
     /**
      * Creates a new instance
@@ -81,7 +79,6 @@ public class EntityModel<T> {
             fieldModelsByField.putIfAbsent(model.getName(), model);
         });
 
-        this.datastore = builder.getDatastore();
         this.collectionName = builder.getCollectionName();
         creatorFactory = new InstanceCreatorFactoryImpl<>(this);
     }
@@ -99,7 +96,7 @@ public class EntityModel<T> {
         final List<ClassMethodPair> methodPairs = getLifecycleMethods().get(event);
         if (methodPairs != null) {
             for (final ClassMethodPair cm : methodPairs) {
-                cm.invoke(document, entity);
+                cm.invoke(mapper.getDatastore(), document, entity);
             }
         }
 
@@ -160,7 +157,8 @@ public class EntityModel<T> {
      * @return the named FieldModel or null if it does not exist
      */
     public FieldModel<?> getFieldModelByName(final String name) {
-        return fieldModelsByMappedName.getOrDefault(name, fieldModelsByField.get(name));
+        FieldModel<?> model = fieldModelsByMappedName.get(name);
+        return model != null ? model : fieldModelsByField.get(name);
     }
 
     /**
@@ -186,6 +184,16 @@ public class EntityModel<T> {
         return creatorFactory.create();
     }
 
+    /**
+     * Creates a new instance with the no argument constructor so the fields of a document can be set on it directly.
+     *
+     * @return the new instance or null if the type is created with a constructor taking its fields
+     * @morphia.internal
+     */
+    public T newInstance() {
+        return creatorFactory.newInstance();
+    }
+
     /**
      * @return thee creator factory
      * @morphia.internal
@@ -199,16 +207,17 @@ public class EntityModel<T> {
      */
     public Map<Class<? extends Annotation>, List<ClassMethodPair>> getLifecycleMethods() {
         if (lifecycleMethods == null) {
-            lifecycleMethods = new HashMap<>();
+            Map<Class<? extends Annotation>, List<ClassMethodPair>> methods = new HashMap<>();
 
             final EntityListeners entityLisAnn = getAnnotation(EntityListeners.class);
             if (entityLisAnn != null && entityLisAnn.value().length != 0) {
                 for (final Class<?> aClass : entityLisAnn.value()) {
-                    mapEvent(aClass, true);
+                    mapEvent(methods, aClass, true);
                 }
             }
 
-            mapEvent(getType(), false);
+            mapEvent(methods, getType(), false);
+            lifecycleMethods = methods;
         }
         return lifecycleMethods;
     }
@@ -237,7 +246,7 @@ public class EntityModel<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(getAnnotations(), fieldModelsByField, fieldModelsByMappedName, datastore, creatorFactory, discriminatorEnabled,
+        return Objects.hash(getAnnotations(), fieldModelsByField, fieldModelsByMappedName, creatorFactory, discriminatorEnabled,
             getDiscriminatorKey(), getDiscriminator(), getType(), getCollectionName(), getLifecycleMethods());
     }
 
@@ -254,7 +263,6 @@ public class EntityModel<T> {
                && Objects.equals(getAnnotations(), that.getAnnotations())
                && Objects.equals(fieldModelsByField, that.fieldModelsByField)
                && Objects.equals(fieldModelsByMappedName, that.fieldModelsByMappedName)
-               && Objects.equals(datastore, that.datastore)
                && Objects.equals(creatorFactory, that.creatorFactory)
                && Objects.equals(getDiscriminatorKey(), that.getDiscriminatorKey())
                && Objects.equals(getDiscriminator(), that.getDiscriminator())
@@ -309,12 +317,13 @@ public class EntityModel<T> {
         return methods;
     }
 
-    private void mapEvent(final Class<?> type, final boolean entityListener) {
+    private void mapEvent(final Map<Class<? extends Annotation>, List<ClassMethodPair>> methods, final Class<?> type,
+                          final boolean entityListener) {
         for (final Method method : getDeclaredAndInheritedMethods(type)) {
             for (final Class<? extends Annotation> annotationClass : LIFECYCLE_ANNOTATIONS) {
                 if (method.isAnnotationPresent(annotationClass)) {
-                    lifecycleMethods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
-                                    .add(new ClassMethodPair(datastore, method, entityListener ? type : null, annotationClass));
+                    methods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
+                           .add(new ClassMethodPair(method, entityListener ? type : null, annotationClass));
                 }
             }
         }
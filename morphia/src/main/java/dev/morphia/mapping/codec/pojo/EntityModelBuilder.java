@@ -1,6 +1,7 @@
 package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.Datastore;
+import dev.morphia.annotations.AlsoLoad;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.Property;
@@ -20,6 +21,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +52,7 @@ public class EntityModelBuilder<T> {
     private String discriminator;
     private String discriminatorKey;
     private String idFieldName;
+    private Set<String> reservedNames;
 
     /**
      * Create a builder
@@ -294,29 +297,61 @@ public class EntityModelBuilder<T> {
         metadata.typeParameterInfo(typeParameterMap, parentClassTypeData);
     }
 
-    @SuppressWarnings("ConstantConditions")
     private String getMappedFieldName(final FieldModelBuilder<?> fieldBuilder) {
         MapperOptions options = datastore.getMapper().getOptions();
         if (fieldBuilder.hasAnnotation(Id.class)) {
             return "_id";
-        } else if (fieldBuilder.hasAnnotation(Property.class)) {
-            final Property mv = fieldBuilder.getAnnotation(Property.class);
-            if (!mv.value().equals(Mapper.IGNORED_FIELDNAME)) {
-                return mv.value();
-            }
-        } else if (fieldBuilder.hasAnnotation(Reference.class)) {
-            final Reference mr = fieldBuilder.getAnnotation(Reference.class);
-            if (!mr.value().equals(Mapper.IGNORED_FIELDNAME)) {
-                return mr.value();
-            }
-        } else if (fieldBuilder.hasAnnotation(Version.class)) {
-            final Version me = fieldBuilder.getAnnotation(Version.class);
-            if (!me.value().equals(Mapper.IGNORED_FIELDNAME)) {
-                return me.value();
-            }
+        }
+        String name = getExplicitName(fieldBuilder.getField());
+        if (name != null) {
+            return name;
         }
 
-        return options.getFieldNaming().apply(fieldBuilder.getName());
+        Entity entity = type.getAnnotation(Entity.class);
+        if (entity == null) {
+            return options.getFieldNaming().apply(fieldBuilder.getName());
+        }
+        String collection = !entity.value().equals(Mapper.IGNORED_FIELDNAME)
+                            ? entity.value()
+                            : options.getCollectionNaming().apply(type.getSimpleName());
+        return options.getFieldNaming().apply(datastore, collection, fieldBuilder.getName(), getReservedNames(entity));
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private static String getExplicitName(final Field field) {
+        String name = Mapper.IGNORED_FIELDNAME;
+        if (field.isAnnotationPresent(Property.class)) {
+            name = field.getAnnotation(Property.class).value();
+        } else if (field.isAnnotationPresent(Reference.class)) {
+            name = field.getAnnotation(Reference.class).value();
+        } else if (field.isAnnotationPresent(Version.class)) {
+            name = field.getAnnotation(Version.class).value();
+        }
+        return !name.equals(Mapper.IGNORED_FIELDNAME) ? name : null;
+    }
+
+    private Set<String> getReservedNames(final Entity entity) {
+        if (reservedNames == null) {
+            Set<String> names = new HashSet<>();
+            names.add("_id");
+            names.add(!entity.discriminatorKey().equals(Mapper.IGNORED_FIELDNAME)
+                      ? entity.discriminatorKey()
+                      : datastore.getMapper().getOptions().getDiscriminatorKey());
+            for (Class<?> klass : buildHierarchy(type)) {
+                for (Field field : klass.getDeclaredFields()) {
+                    String name = getExplicitName(field);
+                    if (name != null) {
+                        names.add(name);
+                    }
+                    AlsoLoad alsoLoad = field.getAnnotation(AlsoLoad.class);
+                    if (alsoLoad != null) {
+                        names.addAll(List.of(alsoLoad.value()));
+                    }
+                }
+            }
+            reservedNames = names;
+        }
+        return reservedNames;
     }
 
     private TypeParameterMap getTypeParameterMap(final List<String> genericTypeNames, final Type propertyType) {
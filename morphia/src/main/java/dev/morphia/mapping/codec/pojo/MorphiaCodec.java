@@ -18,7 +18,9 @@ import org.bson.codecs.pojo.PropertyCodecProvider;
 import org.bson.codecs.pojo.PropertyCodecRegistry;
 import org.bson.types.ObjectId;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static dev.morphia.mapping.codec.Conversions.convert;
 import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
@@ -40,6 +42,8 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private final PropertyCodecRegistry propertyCodecRegistry;
     private final DiscriminatorLookup discriminatorLookup;
     private final EntityEncoder<T> encoder = new EntityEncoder<>(this);
+    private final Map<FieldModel<?>, Codec<?>> propertyCodecs = new IdentityHashMap<>();
+    private EntityDecoder<T> decoder;
 
     /**
      * Creates a new codec
@@ -67,7 +71,7 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
 
     @Override
     public T decode(final BsonReader reader, final DecoderContext decoderContext) {
-        return getDecoder().decode(reader, decoderContext);
+        return getEntityDecoder().decode(reader, decoderContext);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -76,6 +80,7 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         for (FieldModel<?> fieldModel : entityModel.getFieldModels()) {
             Codec codec = fieldModel.getCodec() != null ? fieldModel.getCodec()
                                                         : propertyCodecRegistry.get(fieldModel.getTypeData());
+            propertyCodecs.put(fieldModel, codec);
             fieldModel.cachedCodec(codec);
         }
     }
@@ -91,6 +96,13 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return new EntityDecoder<>(this);
     }
 
+    EntityDecoder<T> getEntityDecoder() {
+        if (decoder == null) {
+            decoder = getDecoder();
+        }
+        return decoder;
+    }
+
     @Override
     public void encode(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
         encoder.encode(writer, value, encoderContext);
@@ -143,6 +155,22 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return mapper;
     }
 
+    /**
+     * Gets the codec this codec uses for a property.  Entity models can be shared by the mappers of several datastores so this should
+     * be preferred over {@link FieldModel#getCachedCodec()} which holds the codec of whichever mapper last built a codec for the type.
+     *
+     * @param model the property
+     * @param <S>   the property type
+     * @return the codec for the property
+     * @morphia.internal
+     * @since 2.0
+     */
+    @SuppressWarnings("unchecked")
+    public <S> Codec<S> getPropertyCodec(final FieldModel<S> model) {
+        Codec<S> codec = (Codec<S>) propertyCodecs.get(model);
+        return codec != null ? codec : model.getCachedCodec();
+    }
+
     DiscriminatorLookup getDiscriminatorLookup() {
         return discriminatorLookup;
     }
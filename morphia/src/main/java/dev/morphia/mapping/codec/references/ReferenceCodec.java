@@ -6,11 +6,14 @@ import dev.morphia.Datastore;
 import dev.morphia.Key;
 import dev.morphia.annotations.Reference;
 import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.MappedField;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.Conversions;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.PropertyCodec;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.experimental.ListReference;
@@ -38,7 +41,9 @@ import org.bson.codecs.configuration.CodecConfigurationException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -51,6 +56,8 @@ import java.util.Set;
 public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHandler {
     private final Reference annotation;
     private BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
+    private Set<String> snapshotProperties;
+    private Set<String> snapshotPropertiesWithId;
 
     /**
      * Creates a codec
@@ -142,6 +149,44 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
         return idValue;
     }
 
+    /**
+     * Builds the stored form of a snapshotted reference:  the ID value along with the current values of the snapshot fields.
+     *
+     * @param mapper     the mapper to use
+     * @param annotation the reference annotation listing the snapshot fields
+     * @param value      the referenced entity
+     * @param idValue    the encoded ID value of the referenced entity
+     * @return the snapshot document
+     * @morphia.internal
+     * @see Reference#snapshot()
+     */
+    @SuppressWarnings("unchecked")
+    public static Document encodeSnapshot(final Mapper mapper, final Reference annotation, final Object value, final Object idValue) {
+        Document snapshot = new Document("_id", idValue);
+        MappedClass mappedClass = mapper.getMappedClass(value.getClass());
+        Codec<?> codec = mappedClass != null ? mapper.getCodecRegistry().get(mappedClass.getType()) : null;
+        if (codec instanceof MorphiaCodec) {
+            // the values go through the same codecs as when the referenced entity is saved so nested references and custom codecs apply
+            DocumentWriter writer = new DocumentWriter();
+            writer.writeStartDocument();
+            for (final String name : annotation.snapshot()) {
+                MappedField field = mappedClass.getMappedField(name);
+                if (field != null) {
+                    FieldModel<Object> model = field.getFieldModel();
+                    Object fieldValue = field.getFieldValue(value);
+                    if (fieldValue != null) {
+                        writer.writeName(model.getMappedName());
+                        EncoderContext.builder().build()
+                                      .encodeWithChildContext(((MorphiaCodec<?>) codec).getPropertyCodec(model), writer, fieldValue);
+                    }
+                }
+            }
+            writer.writeEndDocument();
+            snapshot.putAll(writer.getDocument());
+        }
+        return snapshot;
+    }
+
     @Override
     public Object decode(final BsonReader reader, final DecoderContext decoderContext) {
         Object decode = getDatastore().getMapper().getCodecRegistry()
@@ -187,7 +232,11 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
         return type.getType();
     }
 
-    private Object fetch(final Object value) {
+    private Object fetch(final Object stored) {
+        if (isSnapshot() && annotation.lazy()) {
+            return readSnapshots(stored);
+        }
+        Object value = isSnapshot() ? extractIds(stored) : stored;
         MorphiaReference reference;
         final Class<?> type = getField().getType();
         if (List.class.isAssignableFrom(type)) {
@@ -205,13 +254,11 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
         }
         reference.ignoreMissing(annotation.ignoreMissing());
 
-        return !annotation.lazy() ? reference.get() : createProxy(reference);
+        return !annotation.lazy() ? reference.get() : createProxy(getField().getType(), new ReferenceProxy(reference));
     }
 
-    private <T> T createProxy(final MorphiaReference reference) {
-        ReferenceProxy referenceProxy = new ReferenceProxy(reference);
+    private <T> T createProxy(final Class<?> type, final ReferenceProxy referenceProxy) {
         try {
-            Class<?> type = getField().getType();
             String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
             return ((Loaded<T>) new ByteBuddy()
                                     .subclass(type)
@@ -255,8 +302,97 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
             }
             return ids;
         } else {
-            return encodeId(getDatastore().getMapper(), getDatastore(), value, getFieldMappedClass());
+            Object idValue = encodeId(getDatastore().getMapper(), getDatastore(), value, getFieldMappedClass());
+            return isSnapshot() && idValue != null
+                   ? encodeSnapshot(getDatastore().getMapper(), annotation, value instanceof Key ? idValue : value, idValue)
+                   : idValue;
+        }
+    }
+
+    private boolean isSnapshot() {
+        return annotation.snapshot().length != 0;
+    }
+
+    private Object extractIds(final Object value) {
+        if (value instanceof Document && ((Document) value).containsKey("_id")) {
+            return processId(((Document) value).get("_id"), getDatastore().getMapper(), DecoderContext.builder().build());
+        } else if (value instanceof List) {
+            List ids = new ArrayList(((List) value).size());
+            for (final Object o : (List) value) {
+                ids.add(extractIds(o));
+            }
+            return ids;
+        } else if (value instanceof Map) {
+            final Map<Object, Object> ids = new LinkedHashMap<>();
+            for (final Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                ids.put(entry.getKey(), extractIds(entry.getValue()));
+            }
+            return ids;
+        }
+        return value;
+    }
+
+    private Object readSnapshots(final Object value) {
+        final Class<?> type = getField().getType();
+        final Class<?> referenceType = getFieldMappedClass().getType();
+        if (List.class.isAssignableFrom(type) || Set.class.isAssignableFrom(type)) {
+            Collection proxies = List.class.isAssignableFrom(type) ? new ArrayList() : new LinkedHashSet();
+            for (final Object o : (List) value) {
+                proxies.add(readSnapshot(referenceType, o));
+            }
+            return proxies;
+        } else if (Map.class.isAssignableFrom(type)) {
+            final Map proxies = new LinkedHashMap<>();
+            Class keyType = ((TypeData) getTypeData().getTypeParameters().get(0)).getType();
+            for (final Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                proxies.put(Conversions.convert(entry.getKey(), keyType), readSnapshot(referenceType, entry.getValue()));
+            }
+            return proxies;
+        } else {
+            return readSnapshot(type, value);
+        }
+    }
+
+    private Object readSnapshot(final Class<?> type, final Object value) {
+        if (!(value instanceof Document)) {
+            return createProxy(type, new ReferenceProxy(readSingle(value).ignoreMissing(annotation.ignoreMissing())));
+        }
+        Mapper mapper = getDatastore().getMapper();
+        Document snapshot = new Document((Document) value);
+        Object id = processId(snapshot.get("_id"), mapper, DecoderContext.builder().build());
+        MorphiaReference reference = id instanceof Document ? readDocument((Document) id) : readSingle(id);
+        reference.ignoreMissing(annotation.ignoreMissing());
+
+        Object partial = null;
+        MappedClass mappedClass = getFieldMappedClass();
+        if (!mappedClass.isAbstract() && !mappedClass.isInterface()) {
+            if (id instanceof DBRef) {
+                snapshot.remove("_id");
+            }
+            partial = mapper.getCodecRegistry()
+                            .get(mappedClass.getType())
+                            .decode(new DocumentReader(snapshot), DecoderContext.builder().checkedDiscriminator(true).build());
+        }
+        return createProxy(type, new ReferenceProxy(reference, partial, getSnapshotProperties(snapshot.containsKey("_id"))));
+    }
+
+    private Set<String> getSnapshotProperties(final boolean includeId) {
+        if (snapshotProperties == null) {
+            MappedClass mappedClass = getFieldMappedClass();
+            Set<String> properties = new HashSet<>();
+            for (final String name : annotation.snapshot()) {
+                MappedField field = mappedClass.getMappedField(name);
+                if (field != null) {
+                    properties.add(field.getJavaFieldName());
+                }
+            }
+            snapshotProperties = Set.copyOf(properties);
+            if (mappedClass.getIdField() != null) {
+                properties.add(mappedClass.getIdField().getJavaFieldName());
+            }
+            snapshotPropertiesWithId = Set.copyOf(properties);
         }
+        return includeId ? snapshotPropertiesWithId : snapshotProperties;
     }
 
     MorphiaReference readDocument(final Document value) {
@@ -9,6 +9,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The proxy for lazy references.
@@ -18,9 +19,23 @@ import java.util.List;
 public class ReferenceProxy implements MorphiaProxy, InvocationHandler {
     private static final List<String> NONFETCHES = List.of("isEmpty", "size");
     private MorphiaReference<?> reference;
+    private final Object snapshot;
+    private final Set<String> snapshotProperties;
 
     ReferenceProxy(final MorphiaReference<?> reference) {
+        this(reference, null, Set.of());
+    }
+
+    /**
+     * @param reference          the reference to resolve
+     * @param snapshot           a partially populated instance holding the values stored with the reference.  may be null.
+     * @param snapshotProperties the properties populated on the snapshot instance
+     * @see dev.morphia.annotations.Reference#snapshot()
+     */
+    ReferenceProxy(final MorphiaReference<?> reference, final Object snapshot, final Set<String> snapshotProperties) {
         this.reference = reference;
+        this.snapshot = snapshot;
+        this.snapshotProperties = snapshotProperties;
     }
 
     @Override
@@ -33,6 +48,8 @@ public class ReferenceProxy implements MorphiaProxy, InvocationHandler {
             return isFetched() ? invoke(method, args) : reference.getIds().isEmpty();
         } else if ("size".equals(method.getName())) {
             return isFetched() ? invoke(method, args) : reference.getIds().size();
+        } else if (!isFetched() && isSnapshotted(method)) {
+            return method.invoke(snapshot, args);
         } else {
             fetch(method);
             return invoke(method, args);
@@ -65,6 +82,23 @@ public class ReferenceProxy implements MorphiaProxy, InvocationHandler {
         }
     }
 
+    private boolean isSnapshotted(final Method method) {
+        if (snapshot == null || method.getParameterCount() != 0) {
+            return false;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            name = decapitalize(name.substring(3));
+        } else if (name.startsWith("is") && name.length() > 2) {
+            name = decapitalize(name.substring(2));
+        }
+        return snapshotProperties.contains(name) || snapshotProperties.contains(method.getName());
+    }
+
+    private static String decapitalize(final String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
     private void fetch(final Method method) {
         if (!isFetched() && !NONFETCHES.contains(method.getName())) {
             reference.get();
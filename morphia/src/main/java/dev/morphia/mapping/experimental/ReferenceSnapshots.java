@@ -0,0 +1,125 @@
+package dev.morphia.mapping.experimental;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.MappedField;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.references.ReferenceCodec;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintenance helpers for references stored with {@link Reference#snapshot() snapshot} values.  Snapshots are written when the
+ * referencing entity is saved and are not updated when the referenced entity changes.  These helpers rewrite the stored values in bulk
+ * from the current state of the referenced entities.
+ *
+ * @since 2.0
+ */
+public final class ReferenceSnapshots {
+    private static final int BATCH_SIZE = 1000;
+
+    private ReferenceSnapshots() {
+    }
+
+    /**
+     * Refreshes the snapshots stored in the given field from every entity of the referenced type.
+     *
+     * @param datastore the datastore to use
+     * @param owner     the type declaring the reference field
+     * @param field     the name of the reference field
+     * @return the number of documents modified
+     */
+    public static long refresh(final Datastore datastore, final Class<?> owner, final String field) {
+        MappedField mappedField = findField(datastore.getMapper(), owner, field);
+        return refresh(datastore, owner, field, datastore.find(mappedField.getNormalizedType()));
+    }
+
+    /**
+     * Refreshes the snapshots stored in the given field from the given referenced entities.
+     *
+     * @param datastore  the datastore to use
+     * @param owner      the type declaring the reference field
+     * @param field      the name of the reference field
+     * @param referenced the referenced entities whose snapshots should be rewritten
+     * @param <T>        the referenced type
+     * @return the number of documents modified
+     */
+    public static <T> long refresh(final Datastore datastore, final Class<?> owner, final String field, final Iterable<T> referenced) {
+        Mapper mapper = datastore.getMapper();
+        MappedField mappedField = findField(mapper, owner, field);
+        Reference annotation = mappedField.getAnnotation(Reference.class);
+        MappedClass referencedClass = mapper.getMappedClass(mappedField.getNormalizedType());
+
+        MongoCollection<Document> collection = mapper.getCollection(owner).withDocumentClass(Document.class);
+        String path = mappedField.getMappedFieldName();
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        long modified = 0;
+        for (final T entity : referenced) {
+            Object id = ReferenceCodec.encodeId(mapper, datastore, entity, referencedClass);
+            Document snapshot = ReferenceCodec.encodeSnapshot(mapper, annotation, entity, id);
+            Document filter = new Document(path + "._id", id);
+            updates.add(mappedField.isMultipleValues()
+                        ? new UpdateManyModel<>(filter, update(path + ".$[ref].", referencedClass, annotation, snapshot),
+                            new UpdateOptions().arrayFilters(List.of(new Document("ref._id", id))))
+                        : new UpdateManyModel<>(filter, update(path + ".", referencedClass, annotation, snapshot)));
+            if (updates.size() == BATCH_SIZE) {
+                modified += flush(collection, updates);
+            }
+        }
+        return modified + flush(collection, updates);
+    }
+
+    private static MappedField findField(final Mapper mapper, final Class<?> owner, final String field) {
+        MappedClass ownerClass = mapper.getMappedClass(owner);
+        MappedField mappedField = ownerClass != null ? ownerClass.getMappedField(field) : null;
+        Reference annotation = mappedField != null ? mappedField.getAnnotation(Reference.class) : null;
+        if (annotation == null || annotation.snapshot().length == 0) {
+            throw new MappingException(Sofia.notASnapshotReference(owner.getName(), field));
+        }
+        if (mappedField.isMap()) {
+            throw new UnsupportedOperationException(Sofia.snapshotRefreshOnMap(mappedField.getFullName()));
+        }
+        return mappedField;
+    }
+
+    private static Document update(final String prefix, final MappedClass referencedClass, final Reference annotation,
+                                   final Document snapshot) {
+        Document set = new Document();
+        Document unset = new Document();
+        for (final String name : annotation.snapshot()) {
+            String mappedName = referencedClass.getMappedField(name).getMappedFieldName();
+            if (snapshot.containsKey(mappedName)) {
+                set.put(prefix + mappedName, snapshot.get(mappedName));
+            } else {
+                unset.put(prefix + mappedName, "");
+            }
+        }
+        Document update = new Document();
+        if (!set.isEmpty()) {
+            update.put("$set", set);
+        }
+        if (!unset.isEmpty()) {
+            update.put("$unset", unset);
+        }
+        return update;
+    }
+
+    private static long flush(final MongoCollection<Document> collection, final List<WriteModel<Document>> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        long modified = collection.bulkWrite(updates, new BulkWriteOptions().ordered(false)).getModifiedCount();
+        updates.clear();
+        return modified;
+    }
+}
@@ -21,6 +21,7 @@ import dev.morphia.mapping.validation.fieldrules.ContradictingFieldAnnotation;
 import dev.morphia.mapping.validation.fieldrules.LazyReferenceMissingDependencies;
 import dev.morphia.mapping.validation.fieldrules.LazyReferenceOnArray;
 import dev.morphia.mapping.validation.fieldrules.MapKeyTypeConstraint;
+import dev.morphia.mapping.validation.fieldrules.ReferenceSnapshotFields;
 import dev.morphia.mapping.validation.fieldrules.ReferenceToUnidentifiable;
 import dev.morphia.mapping.validation.fieldrules.VersionMisuse;
 
@@ -104,6 +105,7 @@ public class MappingValidator {
         constraints.add(new ReferenceToUnidentifiable());
         constraints.add(new LazyReferenceMissingDependencies());
         constraints.add(new LazyReferenceOnArray());
+        constraints.add(new ReferenceSnapshotFields());
         constraints.add(new MapKeyTypeConstraint());
         constraints.add(new VersionMisuse(creator));
 
@@ -1,6 +1,8 @@
 package dev.morphia.mapping.validation.classrules;
 
 
+import dev.morphia.annotations.Embedded;
+import dev.morphia.annotations.Entity;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.MappedField;
 import dev.morphia.mapping.Mapper;
@@ -20,9 +22,17 @@ public class DuplicatedAttributeNames implements ClassConstraint {
     @Override
     public void check(final Mapper mapper, final MappedClass mc, final Set<ConstraintViolation> ve) {
         final Set<String> foundNames = new HashSet<String>();
+        final Entity entity = mc.getEntityAnnotation();
+        final Embedded embedded = mc.getEmbeddedAnnotation();
+        final boolean discriminated = entity != null ? entity.useDiscriminator() : embedded != null && embedded.useDiscriminator();
+        final String discriminatorKey = mc.getEntityModel().getDiscriminatorKey();
         for (final MappedField mappedField : mc.getFields()) {
             for (final String name : mappedField.getLoadNames()) {
-                if (!foundNames.add(name)) {
+                if (discriminated && name.equals(discriminatorKey)) {
+                    ve.add(new ConstraintViolation(Level.FATAL, mc, mappedField, getClass(),
+                                                   "Mapping to MongoDB field name '" + name
+                                                   + "' collides with the discriminator key; rename the field or the discriminator key."));
+                } else if (!foundNames.add(name)) {
                     ve.add(new ConstraintViolation(Level.FATAL, mc, mappedField, getClass(),
                                                    "Mapping to MongoDB field name '" + name
                                                    + "' is duplicated; you cannot map different java fields to the same MongoDB field."));
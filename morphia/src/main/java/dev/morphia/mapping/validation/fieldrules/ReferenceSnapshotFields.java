@@ -0,0 +1,36 @@
+package dev.morphia.mapping.validation.fieldrules;
+
+
+import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.MappedField;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.validation.ConstraintViolation;
+import dev.morphia.mapping.validation.ConstraintViolation.Level;
+import dev.morphia.sofia.Sofia;
+
+import java.util.Set;
+
+
+/**
+ * Checks that the fields named in {@link Reference#snapshot()} exist on the referenced type.
+ */
+public class ReferenceSnapshotFields extends FieldConstraint {
+
+    @Override
+    protected void check(final Mapper mapper, final MappedClass mc, final MappedField mf, final Set<ConstraintViolation> ve) {
+        final Reference ref = mf.getAnnotation(Reference.class);
+        if (ref != null && ref.snapshot().length != 0) {
+            MappedClass referenced = mapper.getMappedClass(mf.getNormalizedType());
+            if (referenced != null) {
+                for (final String name : ref.snapshot()) {
+                    if (referenced.getMappedField(name) == null) {
+                        ve.add(new ConstraintViolation(Level.FATAL, mc, mf, getClass(),
+                            Sofia.invalidSnapshotField(name, referenced.getType().getName())));
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,355 @@
+package dev.morphia.query;
+
+import dev.morphia.mapping.codec.EnumCodec;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.codecs.DecoderContext;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds query results in columnar form.  Each requested field is read straight from the raw BSON in to a primitive array.  No entity or
+ * boxed values are created along the way.  Numeric fields are stored as {@code int[]}, {@code long[]} or {@code double[]} depending on
+ * the mapped field's type.  Dates are stored as epoch milliseconds in a {@code long[]}.  Strings and enums are dictionary encoded: each
+ * row holds an index in to the column's list of distinct values.  Missing and null values read as 0, or -1 for dictionary encoded
+ * columns, and can be checked with {@link #isNull(String, int)}.
+ * <p>
+ * The arrays returned are the backing arrays of this instance and are sized to exactly {@link #size()} elements.
+ *
+ * @see Query#columns(String...)
+ * @since 2.0
+ */
+public class Columns {
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private final Map<String, Column> byPath = new HashMap<>();
+    private final Set<String> prefixes = new HashSet<>();
+    private int size;
+
+    Columns(final List<String> names, final List<String> paths, final List<Class<?>> types) {
+        for (int i = 0; i < names.size(); i++) {
+            Column column = Column.of(names.get(i), types.get(i));
+            columns.put(names.get(i), column);
+            byPath.put(paths.get(i), column);
+            String path = paths.get(i);
+            for (int dot = path.indexOf('.'); dot != -1; dot = path.indexOf('.', dot + 1)) {
+                prefixes.add(path.substring(0, dot));
+            }
+        }
+    }
+
+    /**
+     * @param field the field name as given to the query
+     * @return the column values
+     */
+    public double[] getDoubles(final String field) {
+        return column(field, DoubleColumn.class).values;
+    }
+
+    /**
+     * @param field the field name as given to the query
+     * @return the distinct values of a dictionary encoded column.  The codes returned by {@link #getCodes(String)} index this list.
+     */
+    public List<String> getDictionary(final String field) {
+        return Collections.unmodifiableList(column(field, StringColumn.class).dictionary);
+    }
+
+    /**
+     * @param field the field name as given to the query
+     * @return the dictionary codes of the column values
+     * @see #getDictionary(String)
+     */
+    public int[] getCodes(final String field) {
+        return column(field, StringColumn.class).codes;
+    }
+
+    /**
+     * @param field the field name as given to the query
+     * @return the column values
+     */
+    public int[] getInts(final String field) {
+        return column(field, IntColumn.class).values;
+    }
+
+    /**
+     * @param field the field name as given to the query
+     * @return the column values
+     */
+    public long[] getLongs(final String field) {
+        return column(field, LongColumn.class).values;
+    }
+
+    /**
+     * @return the field names in the order requested
+     */
+    public List<String> getNames() {
+        return new ArrayList<>(columns.keySet());
+    }
+
+    /**
+     * @param field the field name as given to the query
+     * @param row   the row to check
+     * @return true if the field was missing or null in the given row
+     */
+    public boolean isNull(final String field, final int row) {
+        return column(field, Column.class).nulls.get(row);
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    void append(final BsonReader reader) {
+        reader.readStartDocument();
+        read(reader, "");
+        reader.readEndDocument();
+        for (final Column column : columns.values()) {
+            if (column.rows == size) {
+                column.nulls.set(size);
+                column.appendNull();
+            }
+        }
+        size++;
+    }
+
+    void trim() {
+        for (final Column column : columns.values()) {
+            column.trim();
+        }
+    }
+
+    private <C extends Column> C column(final String field, final Class<C> type) {
+        Column column = columns.get(field);
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException(Sofia.invalidColumn(field, type.getSimpleName()));
+        }
+        return type.cast(column);
+    }
+
+    private void read(final BsonReader reader, final String prefix) {
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String path = prefix + reader.readName();
+            Column column = byPath.get(path);
+            if (column != null && column.rows == size) {
+                if (reader.getCurrentBsonType() == BsonType.NULL) {
+                    reader.readNull();
+                    column.nulls.set(size);
+                    column.appendNull();
+                } else {
+                    column.append(reader);
+                }
+            } else if (reader.getCurrentBsonType() == BsonType.DOCUMENT && prefixes.contains(path)) {
+                reader.readStartDocument();
+                read(reader, path + ".");
+                reader.readEndDocument();
+            } else {
+                reader.skipValue();
+            }
+        }
+    }
+
+    private abstract static class Column {
+        final BitSet nulls = new BitSet();
+        int rows;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static Column of(final String name, final Class<?> type) {
+            if (type == int.class || type == Integer.class || type == short.class || type == Short.class || type == byte.class
+                || type == Byte.class) {
+                return new IntColumn();
+            } else if (type == long.class || type == Long.class || Date.class.isAssignableFrom(type) || type == Instant.class) {
+                return new LongColumn();
+            } else if (type == double.class || type == Double.class || type == float.class || type == Float.class
+                       || Number.class.isAssignableFrom(type)) {
+                return new DoubleColumn();
+            } else if (type == String.class) {
+                return new StringColumn(null);
+            } else if (type.isEnum()) {
+                EnumCodec<?> codec = new EnumCodec(type);
+                return new StringColumn(codec.isCoded() ? codec : null);
+            }
+            throw new IllegalArgumentException(Sofia.unsupportedColumnType(name, type.getName()));
+        }
+
+        void append(final BsonReader reader) {
+            write(reader);
+            rows++;
+        }
+
+        void appendNull() {
+            writeNull();
+            rows++;
+        }
+
+        abstract void write(BsonReader reader);
+
+        abstract void writeNull();
+
+        abstract void trim();
+
+        static int grow(final int length) {
+            return Math.max(16, length * 2);
+        }
+
+        static double readNumber(final BsonReader reader) {
+            switch (reader.getCurrentBsonType()) {
+                case INT32:
+                    return reader.readInt32();
+                case INT64:
+                    return reader.readInt64();
+                case DOUBLE:
+                    return reader.readDouble();
+                case DATE_TIME:
+                    return reader.readDateTime();
+                case DECIMAL128:
+                    return reader.readDecimal128().bigDecimalValue().doubleValue();
+                default:
+                    throw new IllegalArgumentException(Sofia.invalidBsonOperation("number", reader.getCurrentBsonType()));
+            }
+        }
+    }
+
+    private static class IntColumn extends Column {
+        private int[] values = new int[0];
+
+        @Override
+        void write(final BsonReader reader) {
+            if (rows == values.length) {
+                values = Arrays.copyOf(values, grow(values.length));
+            }
+            values[rows] = reader.getCurrentBsonType() == BsonType.INT32 ? reader.readInt32() : (int) readNumber(reader);
+        }
+
+        @Override
+        void writeNull() {
+            if (rows == values.length) {
+                values = Arrays.copyOf(values, grow(values.length));
+            }
+        }
+
+        @Override
+        void trim() {
+            values = Arrays.copyOf(values, rows);
+        }
+    }
+
+    private static class LongColumn extends Column {
+        private long[] values = new long[0];
+
+        @Override
+        void write(final BsonReader reader) {
+            if (rows == values.length) {
+                values = Arrays.copyOf(values, grow(values.length));
+            }
+            switch (reader.getCurrentBsonType()) {
+                case INT64:
+                    values[rows] = reader.readInt64();
+                    break;
+                case DATE_TIME:
+                    values[rows] = reader.readDateTime();
+                    break;
+                case INT32:
+                    values[rows] = reader.readInt32();
+                    break;
+                default:
+                    values[rows] = (long) readNumber(reader);
+            }
+        }
+
+        @Override
+        void writeNull() {
+            if (rows == values.length) {
+                values = Arrays.copyOf(values, grow(values.length));
+            }
+        }
+
+        @Override
+        void trim() {
+            values = Arrays.copyOf(values, rows);
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        private double[] values = new double[0];
+
+        @Override
+        void write(final BsonReader reader) {
+            if (rows == values.length) {
+                values = Arrays.copyOf(values, grow(values.length));
+            }
+            values[rows] = readNumber(reader);
+        }
+
+        @Override
+        void writeNull() {
+            if (rows == values.length) {
+                values = Arrays.copyOf(values, grow(values.length));
+            }
+        }
+
+        @Override
+        void trim() {
+            values = Arrays.copyOf(values, rows);
+        }
+    }
+
+    private static class StringColumn extends Column {
+        private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> lookup = new HashMap<>();
+        private final EnumCodec<?> enumCodec;
+        private int[] codes = new int[0];
+
+        StringColumn(final EnumCodec<?> enumCodec) {
+            this.enumCodec = enumCodec;
+        }
+
+        @Override
+        void write(final BsonReader reader) {
+            if (rows == codes.length) {
+                codes = Arrays.copyOf(codes, grow(codes.length));
+            }
+            String value;
+            if (enumCodec != null && reader.getCurrentBsonType() == BsonType.INT32) {
+                value = enumCodec.decode(reader, DECODER_CONTEXT).name();
+            } else {
+                value = reader.getCurrentBsonType() == BsonType.SYMBOL ? reader.readSymbol() : reader.readString();
+            }
+            Integer code = lookup.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                lookup.put(value, code);
+            }
+            codes[rows] = code;
+        }
+
+        @Override
+        void writeNull() {
+            if (rows == codes.length) {
+                codes = Arrays.copyOf(codes, grow(codes.length));
+            }
+            codes[rows] = -1;
+        }
+
+        @Override
+        void trim() {
+            codes = Arrays.copyOf(codes, rows);
+        }
+    }
+}
@@ -27,7 +27,7 @@ public class FindAndDeleteOptions extends FindOneAndDeleteOptions implements Ses
      * @since 2.0
      */
     public <T> MongoCollection<T> apply(final MongoCollection<T> collection) {
-        return writeConcern == null
+        return writeConcern == null || writeConcern.equals(collection.getWriteConcern())
                ? collection
                : collection.withWriteConcern(writeConcern);
     }
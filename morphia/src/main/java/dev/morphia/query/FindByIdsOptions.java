@@ -0,0 +1,102 @@
+package dev.morphia.query;
+
+import com.mongodb.assertions.Assertions;
+
+import java.util.StringJoiner;
+
+/**
+ * Defines how a lookup of many ids is split in to {@code $in} queries.
+ *
+ * @see dev.morphia.Datastore#findByIds(Class, Iterable, FindByIdsOptions)
+ * @since 2.0
+ */
+public class FindByIdsOptions {
+    private int batchSize = 1000;
+    private int parallelism = 4;
+    private boolean preserveOrder;
+    private FindOptions findOptions = new FindOptions();
+
+    /**
+     * Sets the number of ids to include in each {@code $in} query.  The default is 1000.
+     *
+     * @param batchSize the batch size
+     * @return this
+     */
+    public FindByIdsOptions batchSize(final int batchSize) {
+        Assertions.isTrueArgument("batchSize > 0", batchSize > 0);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the options to apply to each query.  Any limit or skip is applied per batch.
+     *
+     * @param findOptions the options
+     * @return this
+     */
+    public FindByIdsOptions findOptions(final FindOptions findOptions) {
+        this.findOptions = Assertions.notNull("findOptions", findOptions);
+        return this;
+    }
+
+    /**
+     * @return the number of ids to include in each {@code $in} query
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the options to apply to each query
+     */
+    public FindOptions getFindOptions() {
+        return findOptions;
+    }
+
+    /**
+     * @return the maximum number of queries to run concurrently
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return true if results are returned in the order of the ids given
+     */
+    public boolean isPreserveOrder() {
+        return preserveOrder;
+    }
+
+    /**
+     * Sets the maximum number of queries to run concurrently.  This also bounds the number of batches held in memory.  The default is 4.
+     *
+     * @param parallelism the number of concurrent queries
+     * @return this
+     */
+    public FindByIdsOptions parallelism(final int parallelism) {
+        Assertions.isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Returns results in the order of the ids given rather than as each batch completes.
+     *
+     * @param preserveOrder true to preserve the order of the ids
+     * @return this
+     */
+    public FindByIdsOptions preserveOrder(final boolean preserveOrder) {
+        this.preserveOrder = preserveOrder;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", FindByIdsOptions.class.getSimpleName() + "[", "]")
+                   .add("batchSize=" + batchSize)
+                   .add("parallelism=" + parallelism)
+                   .add("preserveOrder=" + preserveOrder)
+                   .add("findOptions=" + findOptions)
+                   .toString();
+    }
+}
@@ -30,6 +30,7 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 
+import java.util.Collection;
 import java.util.Map.Entry;
 import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
@@ -42,6 +43,14 @@ import java.util.concurrent.TimeUnit;
  * @since 1.3
  */
 public final class FindOptions implements SessionConfigurable<FindOptions> {
+    /**
+     * The default number of databases a fan out query opens and reads ahead from concurrently
+     *
+     * @see #fanOutConcurrency(int)
+     * @since 2.0
+     */
+    public static final int DEFAULT_FAN_OUT_CONCURRENCY = 4;
+
     private int batchSize;
     private int limit;
     private long maxTimeMS;
@@ -65,6 +74,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
     private Projection projection;
     private String queryLogId;
     private ClientSession clientSession;
+    private int parallelDecode;
+    private int prefetch;
+    private int fanOutConcurrency = DEFAULT_FAN_OUT_CONCURRENCY;
 
     /**
      * Creates an instance with default values
@@ -210,6 +222,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         this.projection = original.projection;
         this.queryLogId = original.queryLogId;
         this.clientSession = original.clientSession;
+        this.parallelDecode = original.parallelDecode;
+        this.prefetch = original.prefetch;
+        this.fanOutConcurrency = original.fanOutConcurrency;
 
         return this;
     }
@@ -253,6 +268,15 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         return this.cursorType;
     }
 
+    /**
+     * @return the maximum number of databases a fan out query opens and reads ahead from concurrently
+     * @see #fanOutConcurrency(int)
+     * @since 2.0
+     */
+    public int getFanOutConcurrency() {
+        return fanOutConcurrency;
+    }
+
     /**
      * @return the index hint
      */
@@ -299,6 +323,24 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         return this.min;
     }
 
+    /**
+     * @return the number of documents to decode ahead of the consumer or 0 if results are decoded on the calling thread
+     * @see #parallelDecode(int)
+     * @since 2.0
+     */
+    public int getParallelDecode() {
+        return parallelDecode;
+    }
+
+    /**
+     * @return the number of batches to fetch ahead of the consumer or 0 if batches are fetched on demand
+     * @see #prefetch(int)
+     * @since 2.0
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
     /**
      * @return the projection
      */
@@ -357,6 +399,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         result = 31 * result + (snapshot ? 1 : 0);
         result = 31 * result + (getReadPreference() != null ? getReadPreference().hashCode() : 0);
         result = 31 * result + (getProjection() != null ? getProjection().hashCode() : 0);
+        result = 31 * result + getParallelDecode();
+        result = 31 * result + getPrefetch();
+        result = 31 * result + getFanOutConcurrency();
         return result;
     }
 
@@ -404,6 +449,15 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         if (snapshot != that.snapshot) {
             return false;
         }
+        if (getParallelDecode() != that.getParallelDecode()) {
+            return false;
+        }
+        if (getPrefetch() != that.getPrefetch()) {
+            return false;
+        }
+        if (getFanOutConcurrency() != that.getFanOutConcurrency()) {
+            return false;
+        }
         if (getSort() != null ? !getSort().equals(that.getSort()) : that.getSort() != null) {
             return false;
         }
@@ -455,9 +509,27 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
                    .add("readPreference=" + readPreference)
                    .add("projection=" + projection)
                    .add("queryLogId='" + queryLogId + "'")
+                   .add("parallelDecode=" + parallelDecode)
+                   .add("prefetch=" + prefetch)
+                   .add("fanOutConcurrency=" + fanOutConcurrency)
                    .toString();
     }
 
+    /**
+     * Limits how many databases a {@link dev.morphia.Datastore#fanOut(Query, java.util.Collection, FindOptions) fan out} query opens
+     * and reads ahead from in the background at once.  Databases beyond this limit are read on the calling thread if their results
+     * are needed before a background thread frees up.  Defaults to {@value #DEFAULT_FAN_OUT_CONCURRENCY}.
+     *
+     * @param concurrency the maximum number of databases to read concurrently
+     * @return this
+     * @since 2.0
+     */
+    public FindOptions fanOutConcurrency(final int concurrency) {
+        Assertions.isTrueArgument("concurrency > 0", concurrency > 0);
+        this.fanOutConcurrency = concurrency;
+        return this;
+    }
+
     /**
      * Sets the index hint
      *
@@ -642,6 +714,64 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         return this;
     }
 
+    /**
+     * Decodes results on the common fork-join pool rather than on the calling thread.  Raw documents are read up to {@code readAhead}
+     * documents ahead of the consumer and decoded concurrently while results are still returned in the order the server sent them.  This
+     * is useful when scanning large numbers of complex entities where decoding rather than the network is the bottleneck.  Queries run
+     * with a {@link ClientSession} always decode on the calling thread since loading eager references would share the session across
+     * threads.
+     *
+     * @param readAhead the maximum number of documents to decode ahead of the consumer.  0 disables parallel decoding.
+     * @return this
+     * @since 2.0
+     */
+    public FindOptions parallelDecode(final int readAhead) {
+        Assertions.isTrueArgument("readAhead >= 0", readAhead >= 0);
+        this.parallelDecode = readAhead;
+        return this;
+    }
+
+    /**
+     * Fetches and decodes batches on a background thread while the current batch is being processed rather than waiting on the server
+     * at each batch boundary.  Cursors using this option should be closed if they are not consumed completely.  Queries run with a
+     * {@link ClientSession} are never prefetched and are iterated directly on the calling thread.
+     *
+     * @param batches the maximum number of batches to hold ahead of the consumer.  0 disables prefetching.
+     * @return this
+     * @since 2.0
+     */
+    public FindOptions prefetch(final int batches) {
+        Assertions.isTrueArgument("batches >= 0", batches >= 0);
+        this.prefetch = batches;
+        return this;
+    }
+
+    /**
+     * Replaces any include or exclude projection with a copy that returns the given fields as well.  The projection this instance was
+     * copied from is left unchanged.
+     *
+     * @param mapper the Mapper to use
+     * @param type   the entity type
+     * @param paths  the translated paths which must be returned
+     * @return this
+     */
+    FindOptions retainFields(final Mapper mapper, final Class<?> type, final Collection<String> paths) {
+        if (projection != null) {
+            projection = projection.retaining(this, mapper, type, paths);
+        }
+        return this;
+    }
+
+    /**
+     * Drops any projection so that a fresh one can be defined without affecting the options this instance was copied from.
+     *
+     * @return this
+     */
+    FindOptions clearProjection() {
+        projection = null;
+        return this;
+    }
+
     /**
      * @return the projection
      */
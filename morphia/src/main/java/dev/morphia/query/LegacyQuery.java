@@ -15,7 +15,10 @@ import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.ParallelDecodingCursor;
+import dev.morphia.query.internal.PrefetchingCursor;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -291,7 +294,20 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(final FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        // a session is not safe to use from other threads so cursors bound to one are read and decoded on the calling thread
+        ClientSession session = datastore.findSession(options);
+        MongoCursor<T> cursor;
+        if (options.getParallelDecode() > 0 && session == null) {
+            cursor = new ParallelDecodingCursor<>(prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class)),
+                getCollection().getCodecRegistry().get(getCollection().getDocumentClass()), options.getParallelDecode());
+        } else {
+            cursor = prepareCursor(options, getCollection());
+        }
+        if (options.getPrefetch() > 0 && session == null) {
+            cursor = new PrefetchingCursor<>(cursor, options.getBatchSize(), options.getPrefetch(),
+                mapper.getOptions().getBackgroundExecutor());
+        }
+        return new MorphiaCursor<>(cursor);
     }
 
     @Override
@@ -8,7 +8,11 @@ import com.mongodb.client.model.geojson.Point;
 import com.mongodb.client.result.DeleteResult;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.aggregation.experimental.Aggregation;
+import dev.morphia.aggregation.experimental.expressions.Expressions;
+import dev.morphia.aggregation.experimental.stages.AutoBucket;
 import dev.morphia.annotations.Entity;
+import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
@@ -17,22 +21,40 @@ import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.query.experimental.filters.NearFilter;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.ParallelDecodingCursor;
+import dev.morphia.query.internal.PrefetchingCursor;
+import dev.morphia.query.internal.ProjectionCodec;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.io.ByteBufferBsonInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.query.experimental.filters.Filters.text;
 import static java.lang.String.format;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 /**
  * @param <T> the type
@@ -145,7 +167,11 @@ public class MorphiaQuery<T> implements Query<T> {
      */
     @Override
     public Document toDocument() {
-        final Document query = getQueryDocument();
+        return toDocument(filters);
+    }
+
+    private Document toDocument(final List<Filter> filters) {
+        final Document query = getQueryDocument(filters);
         MappedClass mappedClass = mapper.getMappedClass(getEntityClass());
         Entity entityAnnotation = mappedClass != null ? mappedClass.getEntityAnnotation() : null;
         if (entityAnnotation != null && entityAnnotation.useDiscriminator()
@@ -209,6 +235,35 @@ public class MorphiaQuery<T> implements Query<T> {
                                : getCollection().countDocuments(session, query, options);
     }
 
+    @Override
+    public Columns columns(final FindOptions options, final String... fields) {
+        MappedClass mappedClass = mapper.getMappedClass(getEntityClass());
+        List<String> paths = new ArrayList<>();
+        List<Class<?>> types = new ArrayList<>();
+        for (final String field : fields) {
+            PathTarget target = new PathTarget(mapper, mappedClass, field, validate);
+            paths.add(target.translatedPath());
+            types.add(target.getTarget() != null ? target.getTarget().getType() : Object.class);
+        }
+        Columns columns = new Columns(List.of(fields), paths, types);
+
+        FindOptions projected = options.copy()
+                                       .clearProjection()
+                                       .projection().include(paths.toArray(new String[0]));
+        if (!paths.contains("_id")) {
+            projected.projection().exclude("_id");
+        }
+        try (MongoCursor<RawBsonDocument> cursor = prepareCursor(projected, getCollection().withDocumentClass(RawBsonDocument.class))) {
+            while (cursor.hasNext()) {
+                try (BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(cursor.next().getByteBuffer()))) {
+                    columns.append(reader);
+                }
+            }
+        }
+        columns.trim();
+        return columns;
+    }
+
     @Override
     public T first() {
         return first(new FindOptions());
@@ -216,7 +271,113 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(final FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        return iterator(options, filters);
+    }
+
+    private MorphiaCursor<T> iterator(final FindOptions options, final List<Filter> filters) {
+        // a session is not safe to use from other threads so cursors bound to one are read and decoded on the calling thread
+        ClientSession session = datastore.findSession(options);
+        MongoCursor<T> cursor;
+        if (options.getParallelDecode() > 0 && session == null) {
+            cursor = new ParallelDecodingCursor<>(prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class), filters),
+                getCollection().getCodecRegistry().get(getCollection().getDocumentClass()), options.getParallelDecode());
+        } else {
+            cursor = prepareCursor(options, getCollection(), filters);
+        }
+        if (options.getPrefetch() > 0 && session == null) {
+            cursor = new PrefetchingCursor<>(cursor, options.getBatchSize(), options.getPrefetch(),
+                mapper.getOptions().getBackgroundExecutor());
+        }
+        return new MorphiaCursor<>(cursor);
+    }
+
+    @Override
+    public Page<T> page(final PageRequest request) {
+        Document sort = keysetSort(request.getOptions().getSort());
+        FindOptions options = request.getOptions().copy()
+                                     .sort(sort)
+                                     .skip(0)
+                                     .limit(request.getSize() + 1);
+
+        // the continuation is read from the raw documents so the sort keys must survive any projection
+        options.retainFields(mapper, getEntityClass(), sort.keySet());
+
+        List<Filter> pageFilters = request.getContinuation() == null
+                                   ? filters
+                                   : withFilter(seek(sort, decodeContinuation(sort, request.getContinuation())));
+
+        List<RawBsonDocument> documents = new ArrayList<>(request.getSize() + 1);
+        try (MongoCursor<RawBsonDocument> cursor = prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class),
+            pageFilters)) {
+            cursor.forEachRemaining(documents::add);
+        }
+
+        String continuation = null;
+        if (documents.size() > request.getSize()) {
+            documents.remove(request.getSize());
+            continuation = encodeContinuation(sort, documents.get(request.getSize() - 1));
+        }
+        Codec<T> codec = getCollection().getCodecRegistry().get(getCollection().getDocumentClass());
+        List<T> results = new ArrayList<>(documents.size());
+        for (final RawBsonDocument document : documents) {
+            results.add(document.decode(codec));
+        }
+        return new Page<>(request, results, continuation);
+    }
+
+    @Override
+    public List<MorphiaCursor<T>> partitioned(final String field, final int partitions, final FindOptions options) {
+        if (partitions <= 1) {
+            return List.of(iterator(options));
+        }
+        String key = new PathTarget(mapper, getEntityClass(), field, validate).translatedPath();
+
+        Aggregation<T> aggregation = datastore.aggregate(getEntityClass());
+        if (!filters.isEmpty() && filters.stream().noneMatch(filter -> filter instanceof NearFilter)) {
+            aggregation.match(filters.toArray(new Filter[0]));
+        }
+        List<Object> splits = aggregation.autoBucket(AutoBucket.of()
+                                                               .groupBy(Expressions.field(key))
+                                                               .buckets(partitions))
+                                         .execute(Document.class)
+                                         .toList()
+                                         .stream()
+                                         .skip(1)
+                                         .map(bucket -> bucket.get("_id", Document.class).get("min"))
+                                         .collect(Collectors.toList());
+
+        List<MorphiaCursor<T>> cursors = new ArrayList<>();
+        for (int i = 0; i <= splits.size(); i++) {
+            Filter range;
+            if (splits.isEmpty()) {
+                range = null;
+            } else if (i == 0) {
+                range = "_id".equals(key)
+                        ? Filters.lt(key, splits.get(0))
+                        : Filters.or(Filters.lt(key, splits.get(0)), Filters.eq(key, null));
+            } else if (i == splits.size()) {
+                range = Filters.gte(key, splits.get(i - 1));
+            } else {
+                range = Filters.and(Filters.gte(key, splits.get(i - 1)), Filters.lt(key, splits.get(i)));
+            }
+            cursors.add(range == null ? iterator(options.copy()) : iterator(options.copy(), withFilter(range)));
+        }
+        return cursors;
+    }
+
+    @Override
+    public <D> MorphiaCursor<D> project(final Class<D> type, final FindOptions options) {
+        ProjectionCodec<D> codec = mapper.getProjectionCodec(getEntityClass(), type);
+        FindOptions projected = options.copy()
+                                       .clearProjection()
+                                       .projection().include(codec.getFields().toArray(new String[0]));
+        if (!codec.getFields().contains("_id")) {
+            projected.projection().exclude("_id");
+        }
+        MongoCollection<D> collection = getCollection().withDocumentClass(type)
+                                                       .withCodecRegistry(fromRegistries(fromCodecs(codec),
+                                                           getCollection().getCodecRegistry()));
+        return new MorphiaCursor<>(prepareCursor(projected, collection));
     }
 
     @Override
@@ -329,9 +490,99 @@ public class MorphiaQuery<T> implements Query<T> {
         return collectionName;
     }
 
-    @SuppressWarnings("ConstantConditions")
+    /**
+     * Builds a copy of this query's filters with an extra filter and'ed to them.  This query's filters are left unchanged.
+     */
+    private List<Filter> withFilter(final Filter extra) {
+        Filter combined = filters.isEmpty() ? extra : Filters.and(Stream.concat(filters.stream(), Stream.of(extra)).toArray(Filter[]::new));
+        return List.of(combined.entityType(getEntityClass())
+                               .isValidating(validate && getEntityClass() != null));
+    }
+
+    private Document keysetSort(final Document sort) {
+        Document keyset = new Document();
+        if (sort != null) {
+            for (final Map.Entry<String, Object> entry : sort.entrySet()) {
+                if (!(entry.getValue() instanceof Number) || entry.getKey().startsWith("$")) {
+                    throw new IllegalArgumentException(Sofia.keysetSortNotSupported(entry.getKey()));
+                }
+                keyset.put(new PathTarget(mapper, getEntityClass(), entry.getKey(), validate).translatedPath(),
+                    ((Number) entry.getValue()).intValue() < 0 ? -1 : 1);
+            }
+        }
+        keyset.putIfAbsent("_id", 1);
+        return keyset;
+    }
+
+    /**
+     * Builds the filter matching everything after the given sort values.  Null and missing values sort before all others as they do on
+     * the server so they are matched explicitly since range operators never cross types.
+     */
+    private Filter seek(final Document sort, final List<?> values) {
+        List<String> keys = new ArrayList<>(sort.keySet());
+        List<Filter> clauses = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            Object value = values.get(i);
+            Filter after;
+            if (sort.getInteger(key) < 0) {
+                if (value == null) {
+                    // nothing sorts below null when descending
+                    continue;
+                }
+                after = Filters.or(Filters.lt(key, value), Filters.eq(key, null));
+            } else {
+                after = value == null ? Filters.ne(key, null) : Filters.gt(key, value);
+            }
+            Filter[] terms = new Filter[i + 1];
+            for (int j = 0; j < i; j++) {
+                terms[j] = Filters.eq(keys.get(j), values.get(j));
+            }
+            terms[i] = after;
+            clauses.add(i == 0 ? after : Filters.and(terms));
+        }
+        return clauses.size() == 1 ? clauses.get(0) : Filters.or(clauses.toArray(new Filter[0]));
+    }
+
+    private String encodeContinuation(final Document sort, final RawBsonDocument last) {
+        BsonArray values = new BsonArray();
+        for (final String key : sort.keySet()) {
+            BsonValue value = last;
+            for (final String segment : key.split("\\.")) {
+                value = value instanceof BsonDocument ? ((BsonDocument) value).get(segment) : null;
+            }
+            // missing values sort the same as null
+            values.add(value != null ? value : BsonNull.VALUE);
+        }
+        BsonDocument token = new BsonDocument("s", sort.toBsonDocument(Document.class, mapper.getCodecRegistry()))
+                                 .append("v", values);
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        mapper.getCodecRegistry().get(BsonDocument.class).encode(new BsonBinaryWriter(buffer), token, EncoderContext.builder().build());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.toByteArray());
+    }
+
+    private List<?> decodeContinuation(final Document sort, final String continuation) {
+        Document token;
+        try {
+            token = new RawBsonDocument(Base64.getUrlDecoder().decode(continuation))
+                        .decode(mapper.getCodecRegistry().get(Document.class));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(Sofia.invalidContinuation(), e);
+        }
+        if (!sort.equals(token.get("s"))) {
+            throw new IllegalArgumentException(Sofia.invalidContinuation());
+        }
+        return token.getList("v", Object.class);
+    }
+
     private <E> MongoCursor<E> prepareCursor(final FindOptions findOptions, final MongoCollection<E> collection) {
-        final Document query = toDocument();
+        return prepareCursor(findOptions, collection, filters);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private <E> MongoCursor<E> prepareCursor(final FindOptions findOptions, final MongoCollection<E> collection,
+                                             final List<Filter> filters) {
+        final Document query = toDocument(filters);
 
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
@@ -366,6 +617,10 @@ public class MorphiaQuery<T> implements Query<T> {
     }
 
     Document getQueryDocument() {
+        return getQueryDocument(filters);
+    }
+
+    private Document getQueryDocument(final List<Filter> filters) {
         DocumentWriter writer = new DocumentWriter(seedQuery);
         writer.writeStartDocument();
         EncoderContext context = EncoderContext.builder().build();
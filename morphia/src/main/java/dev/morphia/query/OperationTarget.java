@@ -3,9 +3,11 @@ package dev.morphia.query;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.MappedField;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.DocumentWriter;
-import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.EnumCodec;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
@@ -56,15 +58,17 @@ public class OperationTarget {
         MappedField mappedField = this.target.getTarget();
         Object mappedValue = value;
 
-        FieldModel<?> model = mappedField != null
-                              ? mappedField.getDeclaringClass()
-                                           .getEntityModel()
-                                           .getFieldModelByName(mappedField.getJavaFieldName())
-                              : null;
-
-        Codec cachedCodec = model != null && !(mappedValue instanceof LegacyQuery)
-                            ? model.getCachedCodec()
+        Codec cachedCodec = mappedField != null && !(mappedValue instanceof LegacyQuery)
+                            ? mapper.getPropertyCodec(mappedField)
                             : null;
+        if (cachedCodec instanceof EnumCodec && ((EnumCodec) cachedCodec).isCoded() && mappedValue instanceof String) {
+            Class type = ((EnumCodec) cachedCodec).getEncoderClass();
+            try {
+                mappedValue = Enum.valueOf(type, (String) mappedValue);
+            } catch (IllegalArgumentException e) {
+                throw new MappingException(Sofia.unknownEnumConstant(type.getName(), mappedValue), e);
+            }
+        }
         if (cachedCodec instanceof PropertyHandler) {
             mappedValue = ((PropertyHandler) cachedCodec).encode(mappedValue);
         } else if (mappedValue != null) {
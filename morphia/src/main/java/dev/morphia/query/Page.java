@@ -0,0 +1,66 @@
+package dev.morphia.query;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of results fetched using keyset pagination
+ *
+ * @param <T> the type of the results
+ * @see Query#page(PageRequest)
+ * @since 2.0
+ */
+public class Page<T> {
+    private final PageRequest request;
+    private final List<T> results;
+    private final String continuation;
+
+    /**
+     * Creates a page
+     *
+     * @param request      the request which produced this page
+     * @param results      the results
+     * @param continuation the continuation token for the next page or null if this is the last page
+     * @morphia.internal
+     */
+    public Page(final PageRequest request, final List<T> results, final String continuation) {
+        this.request = request;
+        this.results = Collections.unmodifiableList(results);
+        this.continuation = continuation;
+    }
+
+    /**
+     * The opaque token encoding the sort values of the last result on this page.  It can be handed to clients and passed back to
+     * {@link PageRequest#after(String)} to fetch the following page.
+     *
+     * @return the continuation token or null if this is the last page
+     */
+    public String getContinuation() {
+        return continuation;
+    }
+
+    /**
+     * @return the results on this page
+     */
+    public List<T> getResults() {
+        return results;
+    }
+
+    /**
+     * @return true if there are more results after this page
+     */
+    public boolean hasNext() {
+        return continuation != null;
+    }
+
+    /**
+     * @return the request for the following page with the same size and options or null if this is the last page
+     */
+    public PageRequest next() {
+        return continuation == null
+               ? null
+               : new PageRequest(request.getSize())
+                     .options(request.getOptions())
+                     .after(continuation);
+    }
+}
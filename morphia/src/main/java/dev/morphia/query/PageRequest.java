@@ -0,0 +1,83 @@
+package dev.morphia.query;
+
+import com.mongodb.assertions.Assertions;
+
+import java.util.StringJoiner;
+
+/**
+ * Defines a page of results to fetch using keyset pagination.  The sort order is taken from the {@link FindOptions} given and is always
+ * extended with {@code _id} to break ties.  Subsequent pages are requested using the continuation token of the previous page rather
+ * than by skipping documents so that each page is a single index seek regardless of how deep it is.
+ *
+ * @see Query#page(PageRequest)
+ * @see Page#next()
+ * @since 2.0
+ */
+public class PageRequest {
+    private final int size;
+    private FindOptions options = new FindOptions();
+    private String continuation;
+
+    /**
+     * Creates a request for the first page of results
+     *
+     * @param size the maximum number of results per page
+     */
+    public PageRequest(final int size) {
+        Assertions.isTrueArgument("size > 0", size > 0);
+        this.size = size;
+    }
+
+    /**
+     * Requests the page following the one which produced this token
+     *
+     * @param continuation the continuation token from a previous page
+     * @return this
+     * @see Page#getContinuation()
+     */
+    public PageRequest after(final String continuation) {
+        this.continuation = continuation;
+        return this;
+    }
+
+    /**
+     * @return the continuation token or null if this is a request for the first page
+     */
+    public String getContinuation() {
+        return continuation;
+    }
+
+    /**
+     * @return the find options to use
+     */
+    public FindOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * @return the maximum number of results per page
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the options to use when fetching the page.  Any limit or skip set on these options is ignored.
+     *
+     * @param options the options
+     * @return this
+     */
+    public PageRequest options(final FindOptions options) {
+        this.options = Assertions.notNull("options", options);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", PageRequest.class.getSimpleName() + "[", "]")
+                   .add("size=" + size)
+                   .add("continuation='" + continuation + "'")
+                   .add("options=" + options)
+                   .toString();
+    }
+}
@@ -8,6 +8,7 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -147,6 +148,31 @@ public class Projection {
         }
     }
 
+    Projection retaining(final FindOptions owner, final Mapper mapper, final Class<?> type, final Collection<String> paths) {
+        Projection copy = new Projection(owner);
+        copy.arrayField = arrayField;
+        copy.slice = slice;
+        copy.meta = meta;
+        copy.knownFields = knownFields;
+        if (includes != null) {
+            copy.includes = new ArrayList<>(includes);
+            for (final String path : paths) {
+                if (!copy.includes.contains(path)) {
+                    copy.includes.add(path);
+                }
+            }
+        }
+        if (excludes != null) {
+            MappedClass mappedClass = mapper.getMappedClass(type);
+            copy.excludes = new ArrayList<>(excludes);
+            copy.excludes.removeIf(field -> paths.contains(new PathTarget(mapper, mappedClass, field).translatedPath()));
+            if (copy.excludes.isEmpty()) {
+                copy.excludes = null;
+            }
+        }
+        return copy;
+    }
+
     boolean isIncluding() {
         return includes != null && !includes.isEmpty();
     }
@@ -6,14 +6,18 @@ import dev.morphia.DeleteOptions;
 import dev.morphia.FindAndModifyOptions;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.MorphiaCursorSpliterator;
 import dev.morphia.query.internal.MorphiaKeyCursor;
 import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static dev.morphia.query.MorphiaQuery.legacyOperation;
 
@@ -73,6 +77,33 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
      */
     long count(CountOptions options);
 
+    /**
+     * Execute the query and read the given fields in to primitive columns without decoding any entities.
+     *
+     * @param fields the fields to read
+     * @return the columns
+     * @see #columns(FindOptions, String...)
+     * @since 2.0
+     */
+    default Columns columns(final String... fields) {
+        return columns(new FindOptions(), fields);
+    }
+
+    /**
+     * Execute the query and read the given fields in to primitive columns without decoding any entities.  Only the given fields are
+     * projected and the raw BSON of each result is read directly in to the column buffers.  This is intended for analytical jobs
+     * reading a few numeric fields from large numbers of documents.  Only numeric, date, string and enum fields are supported.
+     *
+     * @param options the options to apply to the find operation.  Any projection given is replaced.
+     * @param fields  the fields to read
+     * @return the columns
+     * @see Columns
+     * @since 2.0
+     */
+    default Columns columns(final FindOptions options, final String... fields) {
+        throw new UnsupportedOperationException(Sofia.notAvailableInLegacy());
+    }
+
     /**
      * Deletes an entity from the database and returns it.
      *
@@ -285,7 +316,33 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
 
     @Override
     default Spliterator<T> spliterator() {
-        throw new UnsupportedOperationException();
+        return new MorphiaCursorSpliterator<>(iterator(), 0, 0);
+    }
+
+    /**
+     * Execute the query and stream the results.  The stream should be closed to release the server cursor unless it is consumed
+     * completely, e.g., when using a short-circuiting operation such as {@code findFirst()}.
+     *
+     * @return the stream of results
+     * @since 2.0
+     */
+    default Stream<T> stream() {
+        return stream(new FindOptions());
+    }
+
+    /**
+     * Execute the query and stream the results.  Parallel streams split the results one driver batch at a time.  The stream should be
+     * closed to release the server cursor unless it is consumed completely, e.g., when using a short-circuiting operation such as
+     * {@code findFirst()}.
+     *
+     * @param options the options to apply to the find operation
+     * @return the stream of results
+     * @since 2.0
+     */
+    default Stream<T> stream(final FindOptions options) {
+        MorphiaCursor<T> cursor = iterator(options);
+        return StreamSupport.stream(new MorphiaCursorSpliterator<>(cursor, options.getLimit(), options.getBatchSize()), false)
+                            .onClose(cursor::close);
     }
 
     /**
@@ -361,6 +418,65 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
         return legacyOperation();
     }
 
+    /**
+     * Fetches a page of results using keyset pagination.  The sort given on the request's options is extended with {@code _id} and the
+     * following pages are selected with a range filter on the sort values of the last result rather than by skipping documents.  For
+     * best results, the sort fields along with {@code _id} should be covered by an index.
+     *
+     * @param request the page to fetch
+     * @return the page
+     * @since 2.0
+     */
+    default Page<T> page(final PageRequest request) {
+        throw new UnsupportedOperationException(Sofia.notAvailableInLegacy());
+    }
+
+    /**
+     * Splits the results of this query into ranges of {@code _id} values each read through its own cursor.
+     *
+     * @param partitions the number of partitions to create
+     * @return the cursors
+     * @see #partitioned(String, int, FindOptions)
+     * @since 2.0
+     */
+    default List<MorphiaCursor<T>> partitioned(final int partitions) {
+        return partitioned("_id", partitions, new FindOptions());
+    }
+
+    /**
+     * Splits the results of this query into ranges of {@code _id} values each read through its own cursor.
+     *
+     * @param partitions the number of partitions to create
+     * @param options    the options to apply to each partition's find operation
+     * @return the cursors
+     * @see #partitioned(String, int, FindOptions)
+     * @since 2.0
+     */
+    default List<MorphiaCursor<T>> partitioned(final int partitions, final FindOptions options) {
+        return partitioned("_id", partitions, options);
+    }
+
+    /**
+     * Splits the results of this query into ranges of a field's values each read through its own cursor.  The split points are computed
+     * with a {@code $bucketAuto} stage over the documents matching this query's filters so that each partition holds roughly the same
+     * number of documents.  Each cursor is independent and can be handed to its own worker thread, e.g.:
+     * <pre>
+     * query.partitioned(8).parallelStream()
+     *      .forEach(cursor -&gt; cursor.forEachRemaining(this::process));
+     * </pre>
+     * The field should be indexed and hold values of a single type.  Any limit or skip given applies to each partition rather than to the
+     * results as a whole.  Fewer partitions than requested are returned when there are not enough distinct values.
+     *
+     * @param field      the field to partition on
+     * @param partitions the number of partitions to create
+     * @param options    the options to apply to each partition's find operation
+     * @return the cursors
+     * @since 2.0
+     */
+    default List<MorphiaCursor<T>> partitioned(final String field, final int partitions, final FindOptions options) {
+        throw new UnsupportedOperationException(Sofia.notAvailableInLegacy());
+    }
+
     /**
      * Adds a field to the projection clause.  Passing true for include will include the field in the results.  Projected fields must all
      * be inclusions or exclusions.  You can not include and exclude fields at the same time with the exception of the _id field.  The
@@ -406,6 +522,36 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
         return legacyOperation();
     }
 
+    /**
+     * Execute the query and decode only the fields needed by a lighter weight type rather than the full entity.
+     *
+     * @param type the projected type
+     * @param <D>  the projected type
+     * @return the results
+     * @see #project(Class, FindOptions)
+     * @since 2.0
+     */
+    default <D> MorphiaCursor<D> project(final Class<D> type) {
+        return project(type, new FindOptions());
+    }
+
+    /**
+     * Execute the query and decode only the fields needed by a lighter weight type rather than the full entity.  The projected type can
+     * be an interface whose getters name the entity properties to load, a type with a constructor annotated with
+     * {@link dev.morphia.annotations.experimental.Constructor}, or a type with a no-arg constructor whose fields name the properties to
+     * load.  The server projection is derived from these properties so any projection on the options given is replaced.  Combined with
+     * an index containing these fields, this allows for covered queries.
+     *
+     * @param type    the projected type
+     * @param options the options to apply to the find operation
+     * @param <D>     the projected type
+     * @return the results
+     * @since 2.0
+     */
+    default <D> MorphiaCursor<D> project(final Class<D> type, final FindOptions options) {
+        throw new UnsupportedOperationException(Sofia.notAvailableInLegacy());
+    }
+
     /**
      * Deletes elements matching this query
      *
@@ -0,0 +1,49 @@
+package dev.morphia.query.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the default pool of daemon threads used to run queries in the background when no executor has been configured via
+ * {@link dev.morphia.mapping.MapperOptions.Builder#backgroundExecutor(Executor)}.  The pool runs at most four threads per processor and
+ * queues any further work.  Cursors using this pool bound their own parallelism.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public final class BackgroundExecutor {
+    private static final Executor EXECUTOR;
+
+    static {
+        int threads = Math.max(4, 4 * Runtime.getRuntime().availableProcessors());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new DaemonThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        EXECUTOR = executor;
+    }
+
+    private BackgroundExecutor() {
+    }
+
+    /**
+     * @return the shared default executor
+     */
+    public static Executor getDefault() {
+        return EXECUTOR;
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, "morphia-background-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.types.Decimal128;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * A cursor which merges the results of several cursors, typically the same query run against several databases.  The source cursors
+ * are opened concurrently and read ahead in the background.  When a sort is given the results are merged in sort order, otherwise they
+ * are handed out as they arrive.  A skip and limit are applied across the merged results and every source cursor is closed as soon as
+ * the limit has been reached.
+ *
+ * @param <T> the type of the results
+ * @morphia.internal
+ * @since 2.0
+ */
+public class MergingCursor<T> implements MongoCursor<T> {
+    private final List<MongoCursor<RawBsonDocument>> live = new ArrayList<>();
+    private final Comparator<BsonDocument> comparator;
+    private final Codec<T> decoder;
+    private PriorityQueue<Head> heads;
+    private long skip;
+    private long remaining;
+    private int position;
+    private RawBsonDocument next;
+    private boolean closed;
+
+    /**
+     * Creates a cursor and opens all the source cursors
+     *
+     * @param sources        the suppliers of the cursors to merge
+     * @param comparator     the order to merge the results in or null if the results need no particular order
+     * @param decoder        the decoder for the results
+     * @param skip           the number of merged results to skip
+     * @param limit          the maximum number of merged results to return or 0 for no limit
+     * @param batchSize      the number of results to read ahead of the consumer from each source at a time
+     * @param concurrent     true if the sources can be read from background threads.  Otherwise the sources are opened and read one
+     *                       at a time on the calling thread.
+     * @param executor       the executor to open and read the sources on when reading concurrently
+     * @param maxConcurrency the maximum number of sources opened or read ahead in the background at once.  Sources whose read ahead
+     *                       has not started by the time their results are needed are read on the calling thread.
+     */
+    public MergingCursor(final List<Supplier<MongoCursor<RawBsonDocument>>> sources, final Comparator<BsonDocument> comparator,
+                         final Codec<T> decoder, final int skip, final int limit, final int batchSize, final boolean concurrent,
+                         final Executor executor, final int maxConcurrency) {
+        this.comparator = comparator;
+        this.decoder = decoder;
+        this.skip = skip;
+        this.remaining = limit != 0 ? Math.abs((long) limit) : Long.MAX_VALUE;
+        if (concurrent) {
+            open(sources, batchSize, new BoundedExecutor(executor, maxConcurrency));
+        } else {
+            for (final Supplier<MongoCursor<RawBsonDocument>> source : sources) {
+                live.add(source.get());
+            }
+        }
+    }
+
+    /**
+     * Creates a comparator for the results of a sorted query.  Values are compared following the server's ordering of BSON types,
+     * embedded documents and arrays included.  As on the server, an array is sorted by its smallest element when ascending and by its
+     * largest when descending and an empty array sorts before null.  Strings are compared by code point and so sorts relying on a
+     * collation may not be reproduced exactly.
+     *
+     * @param sort the sort document using the mapped field names
+     * @return the comparator
+     */
+    public static Comparator<BsonDocument> comparator(final Map<String, Object> sort) {
+        Comparator<BsonDocument> comparator = null;
+        for (final Map.Entry<String, Object> entry : sort.entrySet()) {
+            if (!(entry.getValue() instanceof Number) || entry.getKey().startsWith("$")) {
+                throw new IllegalArgumentException(Sofia.mergeSortNotSupported(entry.getKey()));
+            }
+            String[] path = entry.getKey().split("\\.");
+            boolean descending = ((Number) entry.getValue()).intValue() < 0;
+            Comparator<BsonDocument> field = (first, second) -> compareKeys(sortKey(first, path, 0, descending),
+                sortKey(second, path, 0, descending));
+            if (descending) {
+                field = field.reversed();
+            }
+            comparator = comparator == null ? field : comparator.thenComparing(field);
+        }
+        return comparator;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            next = null;
+            for (final MongoCursor<RawBsonDocument> cursor : live) {
+                cursor.close();
+            }
+            if (heads != null) {
+                for (final Head head : heads) {
+                    head.cursor.close();
+                }
+                heads.clear();
+            }
+            live.clear();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            while (skip > 0 && pull() != null) {
+                skip--;
+            }
+            next = remaining > 0 ? pull() : null;
+            if (next == null) {
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        RawBsonDocument document = next;
+        next = null;
+        if (--remaining == 0) {
+            close();
+        }
+        return document.decode(decoder);
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return null;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void open(final List<Supplier<MongoCursor<RawBsonDocument>>> sources, final int batchSize, final Executor executor) {
+        List<Future<MongoCursor<RawBsonDocument>>> opening = new ArrayList<>();
+        for (final Supplier<MongoCursor<RawBsonDocument>> source : sources) {
+            FutureTask<MongoCursor<RawBsonDocument>> task = new FutureTask<>(source::get);
+            executor.execute(task);
+            opening.add(task);
+        }
+        RuntimeException failure = null;
+        for (final Future<MongoCursor<RawBsonDocument>> future : opening) {
+            try {
+                live.add(new PrefetchingCursor<>(future.get(), batchSize, 1, executor));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new MongoInterruptedException("Interrupted opening the cursors to merge", e);
+            } catch (ExecutionException e) {
+                failure = e.getCause() instanceof RuntimeException
+                          ? (RuntimeException) e.getCause()
+                          : new MongoException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+        if (failure != null) {
+            close();
+            throw failure;
+        }
+    }
+
+    private RawBsonDocument pull() {
+        if (comparator != null) {
+            if (heads == null) {
+                heads = new PriorityQueue<>(Math.max(1, live.size()),
+                    (first, second) -> comparator.compare(first.document, second.document));
+                for (final MongoCursor<RawBsonDocument> cursor : live) {
+                    advance(new Head(cursor));
+                }
+                live.clear();
+            }
+            Head head = heads.poll();
+            if (head == null) {
+                return null;
+            }
+            RawBsonDocument document = head.document;
+            advance(head);
+            return document;
+        }
+        while (!live.isEmpty()) {
+            for (int attempt = 0; attempt < live.size(); attempt++) {
+                position = (position + 1) % live.size();
+                RawBsonDocument document = live.get(position).tryNext();
+                if (document != null) {
+                    return document;
+                }
+            }
+            MongoCursor<RawBsonDocument> cursor = live.get(position);
+            if (cursor.hasNext()) {
+                return cursor.next();
+            }
+            live.remove(position).close();
+        }
+        return null;
+    }
+
+    private void advance(final Head head) {
+        if (head.cursor.hasNext()) {
+            head.document = head.cursor.next();
+            heads.add(head);
+        } else {
+            head.cursor.close();
+        }
+    }
+
+    /**
+     * Finds the value a document sorts by.  Arrays along the path are searched for the smallest value when ascending and the largest when
+     * descending.
+     */
+    private static BsonValue sortKey(final BsonValue value, final String[] path, final int depth, final boolean descending) {
+        if (value == null) {
+            return null;
+        }
+        boolean leaf = depth == path.length;
+        if (value.isArray() && !value.asArray().isEmpty()) {
+            BsonValue best = null;
+            boolean first = true;
+            for (final BsonValue element : value.asArray()) {
+                BsonValue key = leaf ? element : sortKey(element, path, depth, descending);
+                int compared = first ? 0 : compareKeys(key, best);
+                if (first || (descending ? compared > 0 : compared < 0)) {
+                    best = key;
+                    first = false;
+                }
+            }
+            return best;
+        }
+        if (leaf) {
+            return value;
+        }
+        return value.isDocument() ? sortKey(value.asDocument().get(path[depth]), path, depth + 1, descending) : null;
+    }
+
+    private static int compareKeys(final BsonValue first, final BsonValue second) {
+        int compared = Integer.compare(keyRank(first), keyRank(second));
+        return compared != 0 ? compared : compare(first, second);
+    }
+
+    /**
+     * Ranks a sort key.  This is the BSON type order except that an empty array sorts after MinKey and before null.
+     */
+    private static int keyRank(final BsonValue value) {
+        if (value != null && value.isArray() && value.asArray().isEmpty()) {
+            return 1;
+        }
+        int rank = rank(value);
+        return rank == 0 ? 0 : rank + 1;
+    }
+
+    private static int compare(final BsonValue first, final BsonValue second) {
+        int rank = Integer.compare(rank(first), rank(second));
+        if (rank != 0 || first == null || second == null) {
+            return rank;
+        }
+        switch (first.getBsonType()) {
+            case INT32:
+            case INT64:
+            case DOUBLE:
+            case DECIMAL128:
+                return compareNumbers(first, second);
+            case STRING:
+            case SYMBOL:
+                return stringValue(first).compareTo(stringValue(second));
+            case OBJECT_ID:
+                return first.asObjectId().getValue().compareTo(second.asObjectId().getValue());
+            case BOOLEAN:
+                return Boolean.compare(first.asBoolean().getValue(), second.asBoolean().getValue());
+            case DATE_TIME:
+                return Long.compare(first.asDateTime().getValue(), second.asDateTime().getValue());
+            case TIMESTAMP:
+                return first.asTimestamp().compareTo(second.asTimestamp());
+            case DOCUMENT:
+                return compareDocuments(first.asDocument(), second.asDocument());
+            case ARRAY:
+                return compareArrays(first.asArray(), second.asArray());
+            case BINARY:
+                return compareBinaries(first.asBinary(), second.asBinary());
+            case REGULAR_EXPRESSION:
+                int pattern = first.asRegularExpression().getPattern().compareTo(second.asRegularExpression().getPattern());
+                return pattern != 0 ? pattern
+                                    : first.asRegularExpression().getOptions().compareTo(second.asRegularExpression().getOptions());
+            default:
+                return 0;
+        }
+    }
+
+    private static int compareDocuments(final BsonDocument first, final BsonDocument second) {
+        Iterator<Map.Entry<String, BsonValue>> left = first.entrySet().iterator();
+        Iterator<Map.Entry<String, BsonValue>> right = second.entrySet().iterator();
+        while (left.hasNext() && right.hasNext()) {
+            Map.Entry<String, BsonValue> leftEntry = left.next();
+            Map.Entry<String, BsonValue> rightEntry = right.next();
+            int compared = Integer.compare(rank(leftEntry.getValue()), rank(rightEntry.getValue()));
+            if (compared == 0) {
+                compared = leftEntry.getKey().compareTo(rightEntry.getKey());
+            }
+            if (compared == 0) {
+                compared = compare(leftEntry.getValue(), rightEntry.getValue());
+            }
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Boolean.compare(left.hasNext(), right.hasNext());
+    }
+
+    private static int compareArrays(final BsonArray first, final BsonArray second) {
+        for (int i = 0; i < first.size() && i < second.size(); i++) {
+            int compared = compare(first.get(i), second.get(i));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(first.size(), second.size());
+    }
+
+    private static int compareBinaries(final BsonBinary first, final BsonBinary second) {
+        byte[] left = first.getData();
+        byte[] right = second.getData();
+        int compared = Integer.compare(left.length, right.length);
+        if (compared == 0) {
+            compared = Integer.compare(first.getType() & 0xFF, second.getType() & 0xFF);
+        }
+        for (int i = 0; compared == 0 && i < left.length; i++) {
+            compared = Integer.compare(left[i] & 0xFF, right[i] & 0xFF);
+        }
+        return compared;
+    }
+
+    private static int compareNumbers(final BsonValue first, final BsonValue second) {
+        if (first.getBsonType() == BsonType.DECIMAL128 || second.getBsonType() == BsonType.DECIMAL128) {
+            Decimal128 left = first.asNumber().decimal128Value();
+            Decimal128 right = second.asNumber().decimal128Value();
+            if (!left.isNaN() && !right.isNaN()) {
+                return left.bigDecimalValue().compareTo(right.bigDecimalValue());
+            }
+        }
+        if (first.getBsonType() == BsonType.DOUBLE || second.getBsonType() == BsonType.DOUBLE) {
+            return Double.compare(first.asNumber().doubleValue(), second.asNumber().doubleValue());
+        }
+        return Long.compare(first.asNumber().longValue(), second.asNumber().longValue());
+    }
+
+    private static int rank(final BsonValue value) {
+        if (value == null) {
+            return 1;
+        }
+        switch (value.getBsonType()) {
+            case MIN_KEY:
+                return 0;
+            case NULL:
+            case UNDEFINED:
+                return 1;
+            case INT32:
+            case INT64:
+            case DOUBLE:
+            case DECIMAL128:
+                return 2;
+            case STRING:
+            case SYMBOL:
+                return 3;
+            case DOCUMENT:
+                return 4;
+            case ARRAY:
+                return 5;
+            case BINARY:
+                return 6;
+            case OBJECT_ID:
+                return 7;
+            case BOOLEAN:
+                return 8;
+            case DATE_TIME:
+                return 9;
+            case TIMESTAMP:
+                return 10;
+            case REGULAR_EXPRESSION:
+                return 11;
+            case MAX_KEY:
+                return 13;
+            default:
+                return 12;
+        }
+    }
+
+    private static String stringValue(final BsonValue value) {
+        return value.isSymbol() ? value.asSymbol().getSymbol() : value.asString().getValue();
+    }
+
+    /**
+     * Runs at most a fixed number of this cursor's tasks on the delegate at a time and queues the rest.
+     */
+    private static final class BoundedExecutor implements Executor {
+        private final Executor delegate;
+        private final int limit;
+        private final Deque<Runnable> queued = new ArrayDeque<>();
+        private int running;
+
+        private BoundedExecutor(final Executor delegate, final int limit) {
+            this.delegate = delegate;
+            this.limit = Math.max(1, limit);
+        }
+
+        @Override
+        public synchronized void execute(final Runnable task) {
+            queued.add(task);
+            drain();
+        }
+
+        private synchronized void drain() {
+            while (running < limit && !queued.isEmpty()) {
+                Runnable task = queued.poll();
+                running++;
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        finished();
+                    }
+                });
+            }
+        }
+
+        private synchronized void finished() {
+            running--;
+            drain();
+        }
+    }
+
+    private static class Head {
+        private final MongoCursor<RawBsonDocument> cursor;
+        private RawBsonDocument document;
+
+        Head(final MongoCursor<RawBsonDocument> cursor) {
+            this.cursor = cursor;
+        }
+    }
+}
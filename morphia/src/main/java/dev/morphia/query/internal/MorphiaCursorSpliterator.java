@@ -0,0 +1,114 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.client.MongoCursor;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A Spliterator over a cursor.  Splits hand off one driver batch worth of results at a time so that downstream stages of a parallel
+ * stream can process one batch while the cursor fetches the next.  The cursor is closed once it has been exhausted.
+ *
+ * @param <T> the type of the results
+ * @morphia.internal
+ * @since 2.0
+ */
+public class MorphiaCursorSpliterator<T> implements Spliterator<T> {
+    /**
+     * The number of documents the server returns in the first batch when no batch size is given
+     */
+    static final int DEFAULT_BATCH_SIZE = 101;
+
+    private final MongoCursor<T> cursor;
+    private final int batchSize;
+    private long remaining;
+    private boolean exhausted;
+
+    /**
+     * Creates a spliterator
+     *
+     * @param cursor    the cursor to read from
+     * @param limit     the query limit or 0 if there is no limit
+     * @param batchSize the driver batch size or 0 to use the server default
+     */
+    public MorphiaCursorSpliterator(final MongoCursor<T> cursor, final int limit, final int batchSize) {
+        if (cursor == null) {
+            throw new IllegalArgumentException("The wrapped cursor can not be null");
+        }
+        this.cursor = cursor;
+        this.remaining = limit != 0 ? Math.abs((long) limit) : Long.MAX_VALUE;
+        int size = batchSize != 0 ? Math.abs(batchSize) : DEFAULT_BATCH_SIZE;
+        this.batchSize = (int) Math.min(size, remaining);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        if (exhausted) {
+            return false;
+        }
+        if (!cursor.hasNext()) {
+            finish();
+            return false;
+        }
+        action.accept(cursor.next());
+        remaining--;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        if (exhausted) {
+            return;
+        }
+        while (cursor.hasNext()) {
+            action.accept(cursor.next());
+            remaining--;
+        }
+        finish();
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (exhausted || remaining <= 1) {
+            return null;
+        }
+        Object[] batch = new Object[batchSize];
+        int count = 0;
+        while (count < batchSize && cursor.hasNext()) {
+            batch[count++] = cursor.next();
+        }
+        remaining -= count;
+        if (!cursor.hasNext()) {
+            finish();
+        }
+        return count == 0 ? null : Spliterators.spliterator(batch, 0, count, characteristics());
+    }
+
+    /**
+     * When a limit is set this is the number of results not yet consumed.  The server can return fewer so this is only ever an estimate.
+     *
+     * @return the estimated number of remaining results
+     */
+    @Override
+    public long estimateSize() {
+        return exhausted ? 0 : remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private void finish() {
+        exhausted = true;
+        remaining = 0;
+        cursor.close();
+    }
+}
@@ -0,0 +1,250 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+/**
+ * A cursor over the results of a lookup of many ids.  The ids are split in to batches each fetched with its own {@code $in} query.  Up
+ * to a bounded number of these queries run concurrently in the background.  A lookup fitting in a single batch is run on the calling
+ * thread, as is any batch the executor has not started by the time its results are needed.  Once the cursor has been exhausted, the ids
+ * for which no document was found are available via {@link #getMissingIds()}.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.0
+ */
+public class MorphiaIdCursor<T> implements MongoCursor<T> {
+    private final List<List<Object>> batches;
+    private final Function<List<Object>, List<T>> fetcher;
+    private final Function<T, Object> identifier;
+    private final int parallelism;
+    private final boolean preserveOrder;
+    private final Executor executor;
+    private final Deque<FutureTask<Batch<T>>> pending = new ArrayDeque<>();
+    private final List<Object> missing = new ArrayList<>();
+    private Iterator<T> current = Collections.emptyIterator();
+    private int submitted;
+
+    /**
+     * Creates a cursor and starts fetching the first batches
+     *
+     * @param ids           the ids to look up
+     * @param batchSize     the number of ids per query
+     * @param parallelism   the maximum number of queries to run concurrently
+     * @param preserveOrder true if results should be returned in the order of the ids
+     * @param fetcher       the function to fetch the entities for a batch of ids
+     * @param identifier    the function to extract the id from a fetched entity
+     */
+    public MorphiaIdCursor(final Iterable<?> ids, final int batchSize, final int parallelism, final boolean preserveOrder,
+                           final Function<List<Object>, List<T>> fetcher, final Function<T, Object> identifier) {
+        this(ids, batchSize, parallelism, preserveOrder, fetcher, identifier, BackgroundExecutor.getDefault());
+    }
+
+    /**
+     * Creates a cursor and starts fetching the first batches
+     *
+     * @param ids           the ids to look up
+     * @param batchSize     the number of ids per query
+     * @param parallelism   the maximum number of queries to run concurrently
+     * @param preserveOrder true if results should be returned in the order of the ids
+     * @param fetcher       the function to fetch the entities for a batch of ids
+     * @param identifier    the function to extract the id from a fetched entity
+     * @param executor      the executor to run the queries on
+     */
+    public MorphiaIdCursor(final Iterable<?> ids, final int batchSize, final int parallelism, final boolean preserveOrder,
+                           final Function<List<Object>, List<T>> fetcher, final Function<T, Object> identifier,
+                           final Executor executor) {
+        this.batches = new ArrayList<>();
+        List<Object> batch = new ArrayList<>(batchSize);
+        for (final Object id : ids) {
+            batch.add(id);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        this.parallelism = parallelism;
+        this.preserveOrder = preserveOrder;
+        this.fetcher = fetcher;
+        this.identifier = identifier;
+        this.executor = executor;
+        fill();
+    }
+
+    /**
+     * The ids for which no document was found.  This list is only complete once the cursor has been exhausted.
+     *
+     * @return the missing ids
+     */
+    public List<Object> getMissingIds() {
+        return Collections.unmodifiableList(missing);
+    }
+
+    /**
+     * Converts this cursor to a List.  Care should be taken on large datasets as OutOfMemoryErrors are a risk.
+     *
+     * @return the list of Entities
+     */
+    public List<T> toList() {
+        final List<T> results = new ArrayList<>();
+        try {
+            while (hasNext()) {
+                results.add(next());
+            }
+        } finally {
+            close();
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        for (final FutureTask<Batch<T>> task : pending) {
+            task.cancel(false);
+        }
+        pending.clear();
+        submitted = batches.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (pending.isEmpty()) {
+                return false;
+            }
+            Batch<T> batch = await(nextDone());
+            missing.addAll(batch.missing);
+            current = batch.results.iterator();
+            fill();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return null;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private Batch<T> await(final FutureTask<Batch<T>> task) {
+        // a batch still queued behind other work on the executor, such as prefetching cursors waiting on their consumers, is fetched on
+        // this thread instead.  this does nothing if the batch has already been started.
+        task.run();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MongoInterruptedException("Interrupted waiting for the next batch", e);
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MongoException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void fill() {
+        while (pending.size() < parallelism && submitted < batches.size()) {
+            List<Object> ids = batches.get(submitted++);
+            FutureTask<Batch<T>> task = new FutureTask<>(() -> fetch(ids));
+            if (batches.size() == 1) {
+                // nothing could run alongside a lone batch so it is not worth the hop to another thread
+                task.run();
+            } else {
+                executor.execute(task);
+            }
+            pending.add(task);
+        }
+    }
+
+    private Batch<T> fetch(final List<Object> ids) {
+        List<T> results = fetcher.apply(ids);
+        Map<Object, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.putIfAbsent(ids.get(i), i);
+        }
+        List<T> ordered = preserveOrder ? new ArrayList<>(Collections.nCopies(ids.size(), null)) : results;
+        for (final T result : results) {
+            Integer position = positions.remove(identifier.apply(result));
+            if (preserveOrder && position != null) {
+                ordered.set(position, result);
+            }
+        }
+        if (preserveOrder) {
+            ordered.removeIf(result -> result == null);
+        }
+        List<Object> absent = new ArrayList<>();
+        for (final Object id : ids) {
+            if (positions.remove(id) != null) {
+                absent.add(id);
+            }
+        }
+        return new Batch<>(ordered, absent);
+    }
+
+    private FutureTask<Batch<T>> nextDone() {
+        if (!preserveOrder) {
+            for (final Iterator<FutureTask<Batch<T>>> iterator = pending.iterator(); iterator.hasNext(); ) {
+                FutureTask<Batch<T>> task = iterator.next();
+                if (task.isDone()) {
+                    iterator.remove();
+                    return task;
+                }
+            }
+        }
+        return pending.poll();
+    }
+
+    private static class Batch<T> {
+        private final List<T> results;
+        private final List<Object> missing;
+
+        Batch(final List<T> results, final List<Object> missing) {
+            this.results = results;
+            this.missing = missing;
+        }
+    }
+}
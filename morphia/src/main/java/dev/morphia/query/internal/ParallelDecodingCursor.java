@@ -0,0 +1,118 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A cursor which reads raw documents ahead of the consumer and decodes them concurrently on a fork-join pool.  Results are returned in
+ * the order the server sent them.
+ *
+ * @param <T> the decoded type
+ * @morphia.internal
+ * @since 2.0
+ */
+public class ParallelDecodingCursor<T> implements MongoCursor<T> {
+    private final MongoCursor<RawBsonDocument> wrapped;
+    private final Codec<T> codec;
+    private final int readAhead;
+    private final ForkJoinPool pool;
+    private final Deque<ForkJoinTask<T>> pending = new ArrayDeque<>();
+
+    /**
+     * Creates a cursor using the common pool
+     *
+     * @param cursor    the raw document cursor to read from
+     * @param codec     the codec to decode with
+     * @param readAhead the maximum number of documents to decode ahead of the consumer
+     */
+    public ParallelDecodingCursor(final MongoCursor<RawBsonDocument> cursor, final Codec<T> codec, final int readAhead) {
+        this(cursor, codec, readAhead, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a cursor
+     *
+     * @param cursor    the raw document cursor to read from
+     * @param codec     the codec to decode with
+     * @param readAhead the maximum number of documents to decode ahead of the consumer
+     * @param pool      the pool to decode on
+     */
+    public ParallelDecodingCursor(final MongoCursor<RawBsonDocument> cursor, final Codec<T> codec, final int readAhead,
+                                  final ForkJoinPool pool) {
+        if (cursor == null) {
+            throw new IllegalArgumentException("The wrapped cursor can not be null");
+        }
+        this.wrapped = cursor;
+        this.codec = codec;
+        this.readAhead = Math.max(1, readAhead);
+        this.pool = pool;
+    }
+
+    @Override
+    public void close() {
+        for (final ForkJoinTask<T> task : pending) {
+            task.cancel(false);
+        }
+        pending.clear();
+        wrapped.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !pending.isEmpty() || wrapped.hasNext();
+    }
+
+    @Override
+    public T next() {
+        // only refill once half of the read ahead has been consumed so a getMore overlaps the decoding still in flight rather than
+        // stalling every call
+        if (pending.size() <= readAhead / 2) {
+            fill();
+        }
+        ForkJoinTask<T> task = pending.poll();
+        if (task == null) {
+            throw new NoSuchElementException();
+        }
+        return task.join();
+    }
+
+    @Override
+    public T tryNext() {
+        if (!pending.isEmpty()) {
+            return next();
+        }
+        RawBsonDocument document = wrapped.tryNext();
+        return document != null ? document.decode(codec) : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void fill() {
+        while (pending.size() < readAhead && wrapped.hasNext()) {
+            RawBsonDocument document = wrapped.next();
+            pending.add(pool.submit(() -> document.decode(codec)));
+        }
+    }
+}
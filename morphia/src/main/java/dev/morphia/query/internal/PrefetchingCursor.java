@@ -0,0 +1,197 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A cursor which reads and decodes batches on a background thread while the consumer works through the current batch.  The wrapped
+ * cursor is only ever touched by the background thread once iteration has started; the server cursor and address reported are those
+ * captured after the most recent batch was read.  Should the executor not have started the background read by the time the consumer
+ * first needs a result, the consumer reads the wrapped cursor directly instead.  The number of batches read ahead of the consumer is
+ * bounded.  This cursor should be closed if it is not consumed completely so that the background task can stop and release the server
+ * cursor.
+ *
+ * @param <T> the type of the results
+ * @morphia.internal
+ * @since 2.0
+ */
+public class PrefetchingCursor<T> implements MongoCursor<T> {
+    private static final List<?> END = Collections.emptyList();
+
+    private final MongoCursor<T> wrapped;
+    private final int batchSize;
+    private final BlockingQueue<List<T>> batches;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile RuntimeException failure;
+    private volatile ServerCursor serverCursor;
+    private volatile ServerAddress serverAddress;
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean done;
+    private boolean direct;
+
+    /**
+     * Creates a cursor and starts reading from the wrapped cursor in the background
+     *
+     * @param cursor    the cursor to read from
+     * @param batchSize the number of results to hand off at a time
+     * @param prefetch  the maximum number of batches to hold ahead of the consumer
+     */
+    public PrefetchingCursor(final MongoCursor<T> cursor, final int batchSize, final int prefetch) {
+        this(cursor, batchSize, prefetch, BackgroundExecutor.getDefault());
+    }
+
+    /**
+     * Creates a cursor and starts reading from the wrapped cursor in the background
+     *
+     * @param cursor    the cursor to read from
+     * @param batchSize the number of results to hand off at a time
+     * @param prefetch  the maximum number of batches to hold ahead of the consumer
+     * @param executor  the executor to read on
+     */
+    public PrefetchingCursor(final MongoCursor<T> cursor, final int batchSize, final int prefetch, final Executor executor) {
+        if (cursor == null) {
+            throw new IllegalArgumentException("The wrapped cursor can not be null");
+        }
+        this.wrapped = cursor;
+        this.batchSize = batchSize > 0 ? batchSize : MorphiaCursorSpliterator.DEFAULT_BATCH_SIZE;
+        this.batches = new LinkedBlockingQueue<>(Math.max(1, prefetch));
+        this.serverCursor = cursor.getServerCursor();
+        this.serverAddress = cursor.getServerAddress();
+        executor.execute(this::fetch);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        batches.clear();
+        if (started.compareAndSet(false, true) || direct) {
+            wrapped.close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (direct) {
+            return !closed && wrapped.hasNext();
+        }
+        while (!current.hasNext()) {
+            if (done || closed) {
+                return false;
+            }
+            List<T> batch = batches.poll();
+            if (batch == null && started.compareAndSet(false, true)) {
+                // the background read is still queued behind other work so the consumer reads the wrapped cursor itself instead
+                direct = true;
+                return wrapped.hasNext();
+            }
+            try {
+                advance(batch != null ? batch : batches.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException("Interrupted waiting for the next batch", e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return direct ? wrapped.next() : current.next();
+    }
+
+    @Override
+    public T tryNext() {
+        if (direct) {
+            return closed ? null : wrapped.tryNext();
+        }
+        if (!current.hasNext() && !done && !closed) {
+            List<T> batch = batches.poll();
+            if (batch != null) {
+                advance(batch);
+            }
+        }
+        return current.hasNext() ? current.next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return direct ? wrapped.getServerCursor() : serverCursor;
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return direct ? wrapped.getServerAddress() : serverAddress;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void advance(final List<T> batch) {
+        if (batch == END) {
+            done = true;
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        current = batch.iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fetch() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (!closed && wrapped.hasNext()) {
+                List<T> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && !closed && wrapped.hasNext()) {
+                    batch.add(wrapped.next());
+                }
+                // the wrapped cursor is not safe to query from the consumer thread so its state is captured as each batch is read
+                serverCursor = wrapped.getServerCursor();
+                serverAddress = wrapped.getServerAddress();
+                hand(batch);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            try {
+                wrapped.close();
+                serverCursor = null;
+            } finally {
+                hand((List<T>) END);
+            }
+        }
+    }
+
+    private void hand(final List<T> batch) {
+        try {
+            boolean handed = false;
+            while (!closed && !handed) {
+                handed = batches.offer(batch, 100, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        }
+    }
+}
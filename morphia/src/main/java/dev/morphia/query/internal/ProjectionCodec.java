@@ -0,0 +1,236 @@
+package dev.morphia.query.internal;
+
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.MappedField;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.experimental.ConstructorCreator;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static dev.morphia.mapping.codec.Conversions.convert;
+
+/**
+ * Decodes the projected fields of an entity directly in to a lighter weight type.  The target type can be:
+ * <ul>
+ * <li>an interface whose getters name the properties to load</li>
+ * <li>a class with a constructor annotated with {@link dev.morphia.annotations.experimental.Constructor} whose parameters name the
+ * properties to load</li>
+ * <li>a class with a no-arg constructor whose fields name the properties to load</li>
+ * </ul>
+ * Property names are resolved against the entity's mapping and each value is decoded with the entity field's codec.  No entity
+ * instance is ever created.  Instances are cached by the {@link Mapper}.
+ *
+ * @param <D> the projected type
+ * @morphia.internal
+ * @since 2.0
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class ProjectionCodec<D> implements Codec<D> {
+    private final Mapper mapper;
+    private final Class<D> type;
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<Codec> codecs = new ArrayList<>();
+    private final List<Class<?>> targetTypes = new ArrayList<>();
+    private final List<String> fields = new ArrayList<>();
+    private final Function<Object[], D> factory;
+
+    /**
+     * Creates a codec
+     *
+     * @param mapper      the Mapper whose codecs should be used
+     * @param mappedClass the entity being projected
+     * @param type        the projected type
+     * @see Mapper#getProjectionCodec(Class, Class)
+     */
+    public ProjectionCodec(final Mapper mapper, final MappedClass mappedClass, final Class<D> type) {
+        this.mapper = mapper;
+        this.type = type;
+        if (type.isInterface()) {
+            factory = forInterface(mappedClass);
+        } else {
+            Constructor<D> constructor = findConstructor(type);
+            factory = constructor != null ? forConstructor(mappedClass, constructor) : forFields(mappedClass);
+        }
+    }
+
+    /**
+     * @return the mapped names of the fields needed by the projected type
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+
+    @Override
+    public D decode(final BsonReader reader, final DecoderContext decoderContext) {
+        Object[] values = new Object[codecs.size()];
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            Integer slot = slots.get(reader.readName());
+            if (slot == null) {
+                reader.skipValue();
+            } else if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+            } else {
+                Object value = decoderContext.decodeWithChildContext(codecs.get(slot), reader);
+                Class<?> target = targetTypes.get(slot);
+                values[slot] = value == null || wrap(target).isInstance(value) ? value : convert(value, wrap(target));
+            }
+        }
+        reader.readEndDocument();
+        return factory.apply(values);
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final D value, final EncoderContext encoderContext) {
+        throw new UnsupportedOperationException(Sofia.decodingOnly());
+    }
+
+    @Override
+    public Class<D> getEncoderClass() {
+        return type;
+    }
+
+    private int addSlot(final MappedClass mappedClass, final String property, final Class<?> target) {
+        MappedField mappedField = mappedClass.getMappedFieldByJavaField(property);
+        if (mappedField == null) {
+            mappedField = mappedClass.getMappedField(property);
+        }
+        if (mappedField == null) {
+            throw new MappingException(Sofia.unknownProjectionProperty(property, type.getName(), mappedClass.getType().getName()));
+        }
+        int slot = codecs.size();
+        slots.put(mappedField.getMappedFieldName(), slot);
+        codecs.add(mapper.getPropertyCodec(mappedField));
+        targetTypes.add(target);
+        fields.add(mappedField.getMappedFieldName());
+        return slot;
+    }
+
+    private Function<Object[], D> forConstructor(final MappedClass mappedClass, final Constructor<D> constructor) {
+        Parameter[] parameters = constructor.getParameters();
+        for (final Parameter parameter : parameters) {
+            addSlot(mappedClass, ConstructorCreator.getParameterName(parameter), parameter.getType());
+        }
+        constructor.setAccessible(true);
+        return values -> {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == null && parameters[i].getType().isPrimitive()) {
+                        values[i] = Array.get(Array.newInstance(parameters[i].getType(), 1), 0);
+                    }
+                }
+                return constructor.newInstance(values);
+            } catch (ReflectiveOperationException e) {
+                throw new MappingException(Sofia.cannotInstantiate(type.getName(), e.getMessage()));
+            }
+        };
+    }
+
+    private Function<Object[], D> forFields(final MappedClass mappedClass) {
+        Constructor<D> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new MappingException(Sofia.noargConstructorNotFound(type.getName()));
+        }
+        List<Field> targets = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()) && !field.isSynthetic()) {
+                    addSlot(mappedClass, field.getName(), field.getType());
+                    field.setAccessible(true);
+                    targets.add(field);
+                }
+            }
+        }
+        return values -> {
+            try {
+                D instance = constructor.newInstance();
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] != null) {
+                        targets.get(i).set(instance, values[i]);
+                    }
+                }
+                return instance;
+            } catch (ReflectiveOperationException e) {
+                throw new MappingException(Sofia.cannotInstantiate(type.getName(), e.getMessage()));
+            }
+        };
+    }
+
+    private Function<Object[], D> forInterface(final MappedClass mappedClass) {
+        Map<Method, Integer> getters = new HashMap<>();
+        for (final Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0 && method.getReturnType() != void.class && !method.isDefault()
+                && !Modifier.isStatic(method.getModifiers())) {
+                getters.put(method, addSlot(mappedClass, propertyName(method), method.getReturnType()));
+            }
+        }
+        return values -> {
+            Map<String, Object> state = new LinkedHashMap<>();
+            getters.forEach((method, slot) -> state.put(propertyName(method), values[slot]));
+            return (D) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+                Integer slot = getters.get(method);
+                if (slot != null) {
+                    Object value = values[slot];
+                    return value == null && method.getReturnType().isPrimitive()
+                           ? Array.get(Array.newInstance(method.getReturnType(), 1), 0)
+                           : value;
+                }
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return type.getSimpleName() + state;
+                    default:
+                        throw new UnsupportedOperationException(method.toString());
+                }
+            });
+        };
+    }
+
+    private static <D> Constructor<D> findConstructor(final Class<D> type) {
+        for (final Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getAnnotation(dev.morphia.annotations.experimental.Constructor.class) != null) {
+                return (Constructor<D>) constructor;
+            }
+        }
+        return null;
+    }
+
+    private static String propertyName(final Method method) {
+        String name = method.getName();
+        int prefix = name.startsWith("get") ? 3 : name.startsWith("is") && method.getReturnType() == boolean.class ? 2 : 0;
+        if (prefix == 0 || name.length() == prefix) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+
+    private static Class<?> wrap(final Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0).getClass() : type;
+    }
+}
@@ -14,34 +14,48 @@ import dev.morphia.annotations.Reference;
 import dev.morphia.annotations.Transient;
 import dev.morphia.generics.model.Child;
 import dev.morphia.generics.model.ChildEntity;
+import dev.morphia.mapping.MapperOptions;
 import dev.morphia.query.FindAndDeleteOptions;
+import dev.morphia.query.FindByIdsOptions;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Modify;
 import dev.morphia.query.Query;
 import dev.morphia.query.Update;
 import dev.morphia.query.UpdateException;
+import dev.morphia.query.internal.MergingCursor;
+import dev.morphia.query.internal.MorphiaIdCursor;
 import dev.morphia.testmodel.Address;
 import dev.morphia.testmodel.Hotel;
 import dev.morphia.testmodel.Rectangle;
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static com.mongodb.client.model.ReturnDocument.AFTER;
 import static com.mongodb.client.model.ReturnDocument.BEFORE;
+import static dev.morphia.query.Sort.descending;
 import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gte;
 import static dev.morphia.query.experimental.filters.Filters.in;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class TestDatastore extends TestBase {
@@ -128,6 +142,57 @@ public class TestDatastore extends TestBase {
         assertEquals(borg.getAddress().getPostCode(), hotelLoaded.getAddress().getPostCode());
     }
 
+    @Test
+    public void testFanOut() {
+        getMapper().map(FacebookUser.class);
+        List<String> tenants = asList("tenant_a", "tenant_b", "tenant_c");
+        try {
+            for (int i = 0; i < tenants.size(); i++) {
+                Datastore tenant = Morphia.createDatastore(getMongoClient(), tenants.get(i));
+                for (int j = 0; j < 5; j++) {
+                    tenant.save(new FacebookUser(j * tenants.size() + i, "user " + j + " of " + tenants.get(i)));
+                }
+            }
+            Query<FacebookUser> query = getDs().find(FacebookUser.class)
+                                               .filter(gte("_id", 2));
+
+            List<Long> ids;
+            try (Stream<FacebookUser> stream = getDs().fanOut(query, tenants, new FindOptions()
+                                                                                  .sort(descending("_id"))
+                                                                                  .skip(1)
+                                                                                  .limit(4))) {
+                ids = stream.map(user -> user.id).collect(toList());
+            }
+            assertEquals(asList(13L, 12L, 11L, 10L), ids);
+
+            assertEquals(13, getDs().fanOut(query, tenants).count());
+            assertEquals(13, getDs().fanOut(query, tenants, new FindOptions().fanOutConcurrency(1)).count());
+        } finally {
+            for (final String tenant : tenants) {
+                getMongoClient().getDatabase(tenant).drop();
+            }
+        }
+    }
+
+    @Test
+    public void testFanOutSortOrder() {
+        List<BsonDocument> documents = new ArrayList<>(asList(
+            BsonDocument.parse("{v: {a: 2}}"),
+            BsonDocument.parse("{v: [5, 1]}"),
+            BsonDocument.parse("{v: null}"),
+            BsonDocument.parse("{v: []}"),
+            BsonDocument.parse("{v: {a: 1, b: 1}}"),
+            BsonDocument.parse("{v: 3}"),
+            BsonDocument.parse("{v: [[1]]}")));
+
+        documents.sort(MergingCursor.comparator(new Document("v", 1)));
+        assertEquals(asList("{\"v\": []}", "{\"v\": null}", "{\"v\": [5, 1]}", "{\"v\": 3}", "{\"v\": {\"a\": 1, \"b\": 1}}",
+            "{\"v\": {\"a\": 2}}", "{\"v\": [[1]]}"), documents.stream().map(BsonDocument::toJson).collect(toList()));
+
+        documents.sort(MergingCursor.comparator(new Document("v", -1)));
+        assertEquals("{\"v\": [5, 1]}", documents.get(3).toJson());
+    }
+
     @Test
     public void testFindAndDeleteWithCollation() {
         getMapper().getCollection(FacebookUser.class).drop();
@@ -288,6 +353,58 @@ public class TestDatastore extends TestBase {
         assertEquals("Ron Swanson", user.username);
     }
 
+    @Test
+    public void testFindByIds() {
+        getMapper().map(FacebookUser.class);
+        List<FacebookUser> fbUsers = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            fbUsers.add(new FacebookUser(i, "user " + i));
+        }
+        getDs().save(fbUsers);
+
+        List<Long> ids = asList(7L, 3L, 42L, 10L, 1L, 5L, 2L);
+        MorphiaIdCursor<FacebookUser> cursor = getDs().findByIds(FacebookUser.class, ids, new FindByIdsOptions()
+                                                                                             .batchSize(2)
+                                                                                             .preserveOrder(true));
+        List<FacebookUser> found = cursor.toList();
+        assertEquals(asList(7L, 3L, 10L, 1L, 5L, 2L), found.stream().map(user -> user.id).collect(toList()));
+        assertEquals(singletonList(42L), cursor.getMissingIds());
+
+        assertEquals(6, getDs().findByIds(FacebookUser.class, ids, new FindByIdsOptions()
+                                                                      .batchSize(3)
+                                                                      .parallelism(2))
+                               .toList()
+                               .size());
+    }
+
+    @Test
+    public void testFindByIdsExecutor() {
+        AtomicInteger tasks = new AtomicInteger();
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), TEST_DB_NAME, MapperOptions.builder()
+                                                                                         .backgroundExecutor(task -> {
+                                                                                             tasks.incrementAndGet();
+                                                                                             new Thread(task).start();
+                                                                                         })
+                                                                                         .build());
+        datastore.getMapper().map(FacebookUser.class);
+        List<FacebookUser> fbUsers = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            fbUsers.add(new FacebookUser(i, "user " + i));
+        }
+        datastore.save(fbUsers);
+
+        assertEquals(3, datastore.findByIds(FacebookUser.class, asList(1L, 2L, 3L), new FindByIdsOptions().batchSize(5))
+                                 .toList()
+                                 .size());
+        assertEquals(0, tasks.get());
+
+        assertEquals(10, datastore.findByIds(FacebookUser.class, fbUsers.stream().map(user -> user.id).collect(toList()),
+            new FindByIdsOptions().batchSize(5))
+                                  .toList()
+                                  .size());
+        assertEquals(2, tasks.get());
+    }
+
     @Test
     @Category(Reference.class)
     public void testGet() {
@@ -497,6 +614,46 @@ public class TestDatastore extends TestBase {
         assertEquals(1, getDs().find(rect.getClass()).count());
     }
 
+    @Test
+    public void testSharedMapping() {
+        getMapper().map(FacebookUser.class);
+        final FacebookUser local = new FacebookUser(1, "local user");
+        final FacebookUser localFriend = new FacebookUser(2, "local friend");
+        getDs().save(localFriend);
+        local.friends.add(localFriend);
+        getDs().save(local);
+        assertEquals("local friend", getDs().find(FacebookUser.class).filter(eq("_id", 1)).first().friends.get(0).username);
+
+        final Datastore tenant = Morphia.createDatastore(getDs(), "tenant_shared");
+        try {
+            assertSame(getMapper().getMappedClass(FacebookUser.class), tenant.getMapper().getMappedClass(FacebookUser.class));
+
+            final FacebookUser user = new FacebookUser(1, "tenant user");
+            final FacebookUser friend = new FacebookUser(3, "tenant friend");
+            tenant.save(friend);
+            user.friends.add(friend);
+            tenant.save(user);
+
+            assertEquals(2, getDs().find(FacebookUser.class).count());
+            assertEquals(2, tenant.find(FacebookUser.class).count());
+            FacebookUser loaded = tenant.find(FacebookUser.class).filter(eq("_id", 1)).first();
+            assertEquals("tenant user", loaded.username);
+            assertEquals("tenant friend", loaded.friends.get(0).username);
+            assertEquals("local friend", getDs().find(FacebookUser.class).filter(eq("_id", 1)).first().friends.get(0).username);
+        } finally {
+            getMongoClient().getDatabase("tenant_shared").drop();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSharedMappingRequiresMorphiaDatastore() {
+        Datastore foreign = (Datastore) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Datastore.class},
+            (proxy, method, args) -> {
+                throw new UnsupportedOperationException();
+            });
+        Morphia.createDatastore(foreign, "tenant_foreign");
+    }
+
     @Test
     public void testUpdateWithCollation() {
         getMapper().getCollection(FacebookUser.class).drop();
@@ -532,6 +689,23 @@ public class TestDatastore extends TestBase {
                             .loginCount);
     }
 
+    @Test
+    public void testWarmUp() {
+        getMapper().map(FacebookUser.class, LifecycleTestObj.class, Rectangle.class);
+
+        Map<Class<?>, Duration> timings = getDs().warmUp(new WarmUpOptions().rounds(3));
+        assertTrue(timings.containsKey(FacebookUser.class));
+        assertTrue(timings.containsKey(LifecycleTestObj.class));
+        assertTrue(timings.containsKey(Rectangle.class));
+        for (final Duration duration : timings.values()) {
+            assertTrue(!duration.isNegative());
+        }
+        assertEquals(0, getMapper().getCollection(FacebookUser.class).countDocuments());
+
+        getDs().save(new FacebookUser(1, "John Doe"));
+        assertEquals("John Doe", getDs().find(FacebookUser.class).filter(eq("id", 1)).first().username);
+    }
+
     private void testFirstDatastore(final Datastore ds1) {
         final FacebookUser user = ds1.find(FacebookUser.class).filter(eq("id", 1)).iterator(new FindOptions().limit(1))
                                      .next();
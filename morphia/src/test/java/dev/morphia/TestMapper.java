@@ -1,6 +1,10 @@
 package dev.morphia;
 
 
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
@@ -39,6 +43,44 @@ public class TestMapper extends TestBase {
         Assert.assertEquals(annotations.toString(), annotations.size(), 2);
     }
 
+    @Test
+    public void cachedCollections() {
+        Mapper mapper = getMapper();
+        MongoCollection<Journaled> collection = mapper.getCollection(Journaled.class);
+        Assert.assertSame(collection, mapper.getCollection(Journaled.class));
+        Assert.assertEquals(WriteConcern.JOURNALED, collection.getWriteConcern());
+        Assert.assertEquals(WriteConcern.JOURNALED, mapper.getWriteConcern(Journaled.class));
+
+        MongoCollection<Journaled> majority = mapper.getCollection(Journaled.class, WriteConcern.MAJORITY, ReadPreference.secondary(),
+            ReadConcern.MAJORITY);
+        Assert.assertSame(majority, mapper.getCollection(Journaled.class, WriteConcern.MAJORITY, ReadPreference.secondary(),
+            ReadConcern.MAJORITY));
+        Assert.assertNotSame(collection, majority);
+        Assert.assertEquals(WriteConcern.MAJORITY, majority.getWriteConcern());
+        Assert.assertEquals(ReadPreference.secondary(), majority.getReadPreference());
+        Assert.assertEquals(ReadConcern.MAJORITY, majority.getReadConcern());
+    }
+
+    @Test
+    public void parallelMapping() {
+        List<Class> classes = List.of(HoldsMultipleA.class, NestedImpl.class, A.class, Rectangle.class, AnotherNested.class);
+        List<MappedClass> mapped = getMapper().map(classes);
+
+        Mapper mapper = getMapper();
+        Assert.assertEquals(classes.size(), mapped.size());
+        for (int i = 0; i < classes.size(); i++) {
+            Assert.assertSame(mapper.getMappedClass(classes.get(i)), mapped.get(i));
+        }
+        Assert.assertNotNull(mapper.getMappedClass(Nested.class));
+        List<MappedClass> subTypes = mapper.getSubTypes(mapper.getMappedClass(Nested.class));
+        Assert.assertEquals(2, subTypes.size());
+        Assert.assertTrue(subTypes.contains(mapper.getMappedClass(NestedImpl.class)));
+        Assert.assertTrue(subTypes.contains(mapper.getMappedClass(AnotherNested.class)));
+
+        Assert.assertEquals(HoldsMultipleA.class, mapper.getClassFromCollection("holders"));
+        Assert.assertEquals(A.class, mapper.getClass(mapper.getMappedClass(A.class).getEntityModel().getDiscriminator()));
+    }
+
     @Test
     public void serializableId() {
         final CustomId cId = new CustomId();
@@ -120,6 +162,12 @@ public class TestMapper extends TestBase {
         }
     }
 
+    @Entity(value = "journaled", concern = "JOURNALED")
+    public static class Journaled {
+        @Id
+        private ObjectId id;
+    }
+
     @Entity("holders")
     public static class HoldsMultipleA {
         @Id
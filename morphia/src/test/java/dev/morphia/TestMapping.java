@@ -42,12 +42,15 @@ import dev.morphia.testmodel.RecursiveChild;
 import dev.morphia.testmodel.RecursiveParent;
 import dev.morphia.testmodel.TravelAgency;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -146,6 +149,39 @@ public class TestMapping extends TestBase {
 
     }
 
+    @Test
+    public void rawEncoding() {
+        Mapper mapper = getMapper();
+        mapper.map(ContainsLongAndStringArray.class);
+        ContainsLongAndStringArray entity = new ContainsLongAndStringArray();
+        entity.id = new ObjectId();
+        entity.longs = new Long[]{4L, 5L};
+
+        RawBsonDocument document = mapper.encode(entity);
+        assertEquals(entity.id, document.getObjectId("_id").getValue());
+        ContainsLongAndStringArray decoded = mapper.decode(ContainsLongAndStringArray.class, document);
+        assertEquals(entity.id, decoded.id);
+        assertArrayEquals(entity.longs, decoded.longs);
+        assertArrayEquals(entity.strings, decoded.strings);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        mapper.encode(entity, buffer);
+        assertEquals(document.getByteBuffer().remaining(), buffer.position());
+        mapper.encode(entity, buffer);
+        buffer.flip();
+        assertEquals(entity.id, mapper.decode(ContainsLongAndStringArray.class, buffer).id);
+        assertArrayEquals(entity.longs, mapper.decode(ContainsLongAndStringArray.class, buffer).longs);
+        assertFalse(buffer.hasRemaining());
+
+        ByteBuffer small = ByteBuffer.allocate(16);
+        try {
+            mapper.encode(entity, small);
+            fail("The document should not fit");
+        } catch (BufferOverflowException e) {
+            assertEquals(0, small.position());
+        }
+    }
+
     private void validateField(final List<MappedField> fields, final String mapped, final String java) {
         Assert.assertNotNull(mapped, fields.stream().filter(f -> f.getMappedFieldName().equals(mapped)
                                                            && f.getJavaFieldName().equals(java)));
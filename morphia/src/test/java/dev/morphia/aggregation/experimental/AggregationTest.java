@@ -741,6 +741,21 @@ public class AggregationTest extends TestBase {
         assertEquals(3, pipeline.execute(User.class).toList().size());
     }
 
+    @Test
+    public void testStream() {
+        getDs().save(asList(new User("John", new Date()),
+            new User("Paul", new Date()),
+            new User("George", new Date()),
+            new User("Ringo", new Date())));
+
+        List<String> names = getDs().aggregate(User.class)
+                                    .sort(on().ascending("name"))
+                                    .stream(User.class, new AggregationOptions().batchSize(1))
+                                    .map(user -> user.name)
+                                    .collect(toList());
+        assertEquals(asList("George", "John", "Paul", "Ringo"), names);
+    }
+
     @Test
     public void testSet() {
         List<Document> list = List.of(
@@ -0,0 +1,88 @@
+package dev.morphia.geo;
+
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Indexed;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.utils.IndexDirection;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.near;
+
+public class PackedGeometryTest extends TestBase {
+    @Test
+    public void roundTrip() {
+        double[] exterior = {0, 0, 4, 0, 4, 4, 0, 4, 0, 0};
+        double[] hole = {1, 1, 2, 1, 2, 2, 1, 1};
+        Parcel parcel = new Parcel();
+        parcel.location = new PackedPoint(-73.97, 40.77);
+        parcel.path = new PackedLineString(0, 0, 1, 1, 2, 3);
+        parcel.area = new PackedPolygon(exterior, hole);
+        parcel.regions = new PackedMultiPolygon(new PackedPolygon(exterior),
+            new PackedPolygon(new double[]{10, 10, 11, 10, 11, 11, 10, 10}));
+        getDs().save(parcel);
+
+        Document document = getDocumentCollection(Parcel.class).find().first();
+        Document location = (Document) document.get("location");
+        Assert.assertEquals("Point", location.get("type"));
+        Assert.assertEquals(List.of(-73.97, 40.77), location.get("coordinates"));
+        Assert.assertEquals("Polygon", ((Document) document.get("area")).get("type"));
+
+        Parcel loaded = getDs().find(Parcel.class).filter(eq("_id", parcel.id)).first();
+        Assert.assertEquals(parcel.location, loaded.location);
+        Assert.assertEquals(parcel.path, loaded.path);
+        Assert.assertEquals(3, loaded.path.size());
+        Assert.assertEquals(3.0, loaded.path.getLatitude(2), 0.0);
+        Assert.assertEquals(parcel.area, loaded.area);
+        Assert.assertEquals(parcel.regions, loaded.regions);
+
+        getDs().ensureIndexes(Parcel.class);
+        Assert.assertEquals(parcel.id, getDs().find(Parcel.class)
+                                              .filter(near("location", new PackedPoint(-73.9, 40.7).convert()))
+                                              .first().id);
+    }
+
+    @Test
+    public void storedForms() {
+        getMapper().map(Parcel.class);
+        Document location = new Document("type", "Point")
+                                .append("coordinates", List.of(1, 2L, 30.5));
+        Document path = new Document("type", "LineString")
+                            .append("crs", new Document("type", "name"))
+                            .append("coordinates", List.of(List.of(1, 2), List.of(3, 4)));
+        getDocumentCollection(Parcel.class).insertOne(new Document("_id", new ObjectId())
+                                                          .append("location", location)
+                                                          .append("path", path));
+
+        Parcel loaded = getDs().find(Parcel.class).first();
+        Assert.assertEquals(new PackedPoint(1, 2), loaded.location);
+        Assert.assertEquals(new PackedLineString(1, 2, 3, 4), loaded.path);
+    }
+
+    @Test(expected = MappingException.class)
+    public void typeMismatch() {
+        getMapper().map(Parcel.class);
+        getDocumentCollection(Parcel.class).insertOne(new Document("_id", new ObjectId())
+                                                          .append("location", new Document("type", "LineString")
+                                                                                  .append("coordinates", List.of(List.of(1, 2)))));
+        getDs().find(Parcel.class).first();
+    }
+
+    @Entity("parcels")
+    private static class Parcel {
+        @Id
+        private ObjectId id;
+        @Indexed(IndexDirection.GEO2DSPHERE)
+        private PackedPoint location;
+        private PackedLineString path;
+        private PackedPolygon area;
+        private PackedMultiPolygon regions;
+    }
+}
@@ -0,0 +1,140 @@
+package dev.morphia.mapping;
+
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Compressed;
+import dev.morphia.annotations.Embedded;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.codec.CompressedCodec;
+import dev.morphia.mapping.codec.CompressionStats;
+import dev.morphia.mapping.codec.DeflateCompressor;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+
+public class CompressedFieldTest extends TestBase {
+    @Test
+    public void compressed() {
+        getMapper().map(Note.class);
+        Note note = new Note();
+        note.notes = "lorem ipsum dolor sit amet ".repeat(200);
+        note.payload = new byte[4096];
+        Arrays.fill(note.payload, (byte) 7);
+        note.summary = "short";
+        getDs().save(note);
+
+        Document document = getDocumentCollection(Note.class).find().first();
+        Binary notes = (Binary) document.get("notes");
+        Assert.assertEquals(CompressedCodec.SUBTYPE, notes.getType());
+        Assert.assertTrue(notes.length() < note.notes.length());
+        Assert.assertEquals(CompressedCodec.SUBTYPE, ((Binary) document.get("payload")).getType());
+        Assert.assertEquals("short", document.get("summary"));
+
+        Note loaded = getDs().find(Note.class).filter(eq("_id", note.id)).first();
+        Assert.assertEquals(note.notes, loaded.notes);
+        Assert.assertArrayEquals(note.payload, loaded.payload);
+        Assert.assertEquals(note.summary, loaded.summary);
+
+        CompressionStats stats = getMapper().getCompressionStats(Note.class, "notes");
+        Assert.assertTrue(stats.getCompressedValues() > 0);
+        Assert.assertTrue(stats.getRatio() < 1.0);
+        Assert.assertTrue(getMapper().getCompressionStats(Note.class, "summary").getUncompressedValues() > 0);
+    }
+
+    @Test(expected = MappingException.class)
+    public void corruptLength() {
+        getMapper().map(Note.class);
+        ObjectId id = new ObjectId();
+        byte[] data = {DeflateCompressor.ID, -1, -1, -1, 127, 0};
+        getDocumentCollection(Note.class).insertOne(new Document("_id", id)
+                                                        .append("notes", new Binary(CompressedCodec.SUBTYPE, data)));
+
+        getDs().find(Note.class).filter(eq("_id", id)).first();
+    }
+
+    @Test
+    public void genericValues() {
+        getMapper().map(Discussion.class);
+        Discussion discussion = new Discussion();
+        discussion.notes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            discussion.notes.add(new Line("line " + i));
+        }
+        discussion.pinned = List.of(new Line("short"));
+        getDs().save(discussion);
+
+        Document document = getDocumentCollection(Discussion.class).find().first();
+        Assert.assertEquals(CompressedCodec.SUBTYPE, ((Binary) document.get("notes")).getType());
+        Assert.assertEquals(List.of(new Document("text", "short")), document.get("pinned"));
+
+        Discussion loaded = getDs().find(Discussion.class).filter(eq("_id", discussion.id)).first();
+        Assert.assertEquals(discussion.notes, loaded.notes);
+        Assert.assertEquals(discussion.pinned, loaded.pinned);
+    }
+
+    @Test
+    public void uncompressedValues() {
+        getMapper().map(Note.class);
+        ObjectId id = new ObjectId();
+        getDocumentCollection(Note.class).insertOne(new Document("_id", id)
+                                                        .append("notes", "stored before compression")
+                                                        .append("payload", new byte[]{1, 2, 3}));
+
+        Note loaded = getDs().find(Note.class).filter(eq("_id", id)).first();
+        Assert.assertEquals("stored before compression", loaded.notes);
+        Assert.assertArrayEquals(new byte[]{1, 2, 3}, loaded.payload);
+    }
+
+    @Entity
+    private static class Note {
+        @Id
+        private ObjectId id;
+        @Compressed(threshold = 64)
+        private String notes;
+        @Compressed(threshold = 64)
+        private byte[] payload;
+        @Compressed(threshold = 64)
+        private String summary;
+    }
+
+    @Entity
+    private static class Discussion {
+        @Id
+        private ObjectId id;
+        @Compressed(threshold = 64)
+        private List<Line> notes;
+        @Compressed(threshold = 64)
+        private List<Line> pinned;
+    }
+
+    @Embedded(useDiscriminator = false)
+    private static class Line {
+        private String text;
+
+        Line() {
+        }
+
+        Line(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Line && Objects.equals(text, ((Line) o).text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(text);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package dev.morphia.mapping;
+
+import com.sun.management.ThreadMXBean;
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.experimental.Constructor;
+import dev.morphia.annotations.experimental.Name;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+public class DecodeAllocationTest extends TestBase {
+    private static final int ITERATIONS = 20_000;
+    /**
+     * Room for the entity and its field values: with compressed oops the entity, the id and its bytes, the name and its bytes and the
+     * boxed double come to about 160 bytes.  A single reader mark or an instance creator per document goes past this.
+     */
+    private static final long BUDGET = 200;
+
+    private Object sink;
+
+    @Test
+    public void steadyStateDecode() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        getMapper().map(Flat.class);
+        Flat flat = new Flat();
+        flat.id = new ObjectId();
+        flat.name = "flat";
+        flat.count = 7;
+        flat.value = 2.5;
+        flat.active = true;
+        RawBsonDocument document = getMapper().encode(flat);
+        Codec<Flat> codec = getMapper().getCodecRegistry().get(Flat.class);
+        DecoderContext context = DecoderContext.builder().build();
+
+        Flat decoded = codec.decode(document.asBsonReader(), context);
+        Assert.assertEquals(flat.id, decoded.id);
+        Assert.assertEquals(flat.name, decoded.name);
+        Assert.assertEquals(flat.count, decoded.count);
+        Assert.assertEquals(flat.value, decoded.value, 0.0);
+        Assert.assertTrue(decoded.active);
+
+        long reading = measure(threads, () -> skip(document.asBsonReader()));
+        long decoding = measure(threads, () -> codec.decode(document.asBsonReader(), context));
+        Assert.assertTrue(format("Decoding allocated %d bytes per document beyond reading it", decoding - reading),
+            decoding - reading < BUDGET);
+    }
+
+    @Test
+    public void unmappedSubtype() {
+        getMapper().map(Animal.class);
+        ObjectId id = new ObjectId();
+        getDocumentCollection(Animal.class).insertOne(new Document("_id", id)
+                                                         .append(getMapper().getOptions().getDiscriminatorKey(), Dog.class.getName())
+                                                         .append("name", "rex")
+                                                         .append("age", 3));
+
+        Animal animal = getDs().find(Animal.class).first();
+        Assert.assertTrue(animal instanceof Dog);
+        Assert.assertEquals(id, animal.id);
+        Assert.assertEquals("rex", animal.name);
+        Assert.assertEquals(3, ((Dog) animal).age);
+    }
+
+    @Test
+    public void unmappedLifecycleSubtype() {
+        getMapper().map(Animal.class);
+        getDocumentCollection(Animal.class).insertOne(new Document("name", "tom")
+                                                         .append(getMapper().getOptions().getDiscriminatorKey(), Cat.class.getName()));
+
+        Animal animal = getDs().find(Animal.class).first();
+        Assert.assertTrue(animal instanceof Cat);
+        Assert.assertEquals("tom", animal.name);
+        Assert.assertTrue(((Cat) animal).loaded);
+    }
+
+    @Test
+    public void unmappedConstructorSubtype() {
+        getMapper().map(Animal.class);
+        ObjectId id = new ObjectId();
+        getDocumentCollection(Animal.class).insertOne(new Document("_id", id)
+                                                         .append("name", "tweety")
+                                                         .append("wings", 2)
+                                                         .append(getMapper().getOptions().getDiscriminatorKey(), Bird.class.getName()));
+
+        Animal animal = getDs().find(Animal.class).first();
+        Assert.assertTrue(animal instanceof Bird);
+        Assert.assertEquals(id, animal.id);
+        Assert.assertEquals("tweety", animal.name);
+        Assert.assertEquals(2, ((Bird) animal).wings);
+    }
+
+    private long measure(final ThreadMXBean threads, final Supplier<Object> operation) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long id = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        return (threads.getThreadAllocatedBytes(id) - start) / ITERATIONS;
+    }
+
+    private static Object skip(final BsonReader reader) {
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            reader.skipValue();
+        }
+        reader.readEndDocument();
+        return reader;
+    }
+
+    @Entity(value = "flat", useDiscriminator = false)
+    private static class Flat {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int count;
+        private double value;
+        private boolean active;
+    }
+
+    @Entity("animals")
+    private static class Animal {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        Animal() {
+        }
+
+        Animal(final ObjectId id, final String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static class Dog extends Animal {
+        private int age;
+    }
+
+    private static class Cat extends Animal {
+        private transient boolean loaded;
+
+        @PostLoad
+        void onLoad() {
+            loaded = true;
+        }
+    }
+
+    private static class Bird extends Animal {
+        private final int wings;
+
+        @Constructor
+        Bird(@Name("id") final ObjectId id, @Name("name") final String name, @Name("wings") final int wings) {
+            super(id, name);
+            this.wings = wings;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.morphia.mapping;
+
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EntityIndexProcessorTest {
+    @Test
+    public void indexesMappableClasses() throws IOException {
+        Path output = Files.createTempDirectory("entity-index");
+        try {
+            List<JavaFileObject> sources = List.of(
+                source("sample.Parent", "package sample; @dev.morphia.annotations.Entity public class Parent {}"),
+                source("sample.Child", "package sample; public class Child extends Parent {}"),
+                source("sample.Plain", "package sample; public class Plain {}"),
+                source("sample.Holder", "package sample; public class Holder { "
+                                        + "@dev.morphia.annotations.Embedded public static class Inner {} }"),
+                source("sample.Shape", "package sample; @dev.morphia.annotations.Entity public interface Shape {}"),
+                source("sample.Circle", "package sample; public class Circle implements Shape {}"));
+
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path")), null, sources);
+            task.setProcessors(List.of(new EntityIndexProcessor()));
+            assertTrue(task.call());
+
+            List<String> indexed = Files.readAllLines(output.resolve(EntityIndex.LOCATION), UTF_8);
+            assertEquals(List.of("sample.Child", "sample.Circle", "sample.Holder$Inner", "sample.Parent", "sample.Shape"), indexed);
+        } finally {
+            try (Stream<Path> files = Files.walk(output)) {
+                files.sorted(Comparator.reverseOrder())
+                     .map(Path::toFile)
+                     .forEach(File::delete);
+            }
+        }
+    }
+
+    private static JavaFileObject source(final String name, final String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
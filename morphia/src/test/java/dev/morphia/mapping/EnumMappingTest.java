@@ -5,8 +5,11 @@ import dev.morphia.Morphia;
 import dev.morphia.TestBase;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.EnumCode;
 import dev.morphia.annotations.Id;
+import dev.morphia.mapping.codec.EnumCodec;
 import dev.morphia.query.FindOptions;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
 import org.junit.Test;
@@ -17,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.in;
 
 /**
  * @author Uwe Schaefer, (us@thomas-daily.de)
@@ -126,11 +130,73 @@ public class EnumMappingTest extends TestBase {
                                       .count());
     }
 
+    @Test
+    public void testCodedEnums() {
+        getMapper().map(ContainsStatus.class);
+
+        ContainsStatus entity = new ContainsStatus();
+        entity.statuses = List.of(Status.ACTIVE, Status.CLOSED);
+        getDs().save(entity);
+
+        Document document = getDocumentCollection(ContainsStatus.class).find().first();
+        Assert.assertEquals(10, document.get("status"));
+        Assert.assertEquals(List.of(10, 1_000_000), document.get("statuses"));
+
+        Assert.assertEquals(1, getDs().find(ContainsStatus.class).filter(eq("status", Status.ACTIVE)).count());
+        Assert.assertEquals(1, getDs().find(ContainsStatus.class).filter(eq("status", "ACTIVE")).count());
+        Assert.assertEquals(1, getDs().find(ContainsStatus.class).filter(in("statuses", List.of(Status.CLOSED))).count());
+
+        getDs().find(ContainsStatus.class)
+               .update()
+               .set("status", Status.SUSPENDED)
+               .execute();
+        Assert.assertEquals(20, getDocumentCollection(ContainsStatus.class).find().first().get("status"));
+
+        ContainsStatus loaded = getDs().find(ContainsStatus.class).filter(eq("status", Status.SUSPENDED)).first();
+        Assert.assertEquals(Status.SUSPENDED, loaded.status);
+        Assert.assertEquals(entity.statuses, loaded.statuses);
+
+        ObjectId id = new ObjectId();
+        getDocumentCollection(ContainsStatus.class).insertOne(new Document("_id", id)
+                                                                  .append("status", "CLOSED")
+                                                                  .append("statuses", List.of("ACTIVE", 20)));
+        loaded = getDs().find(ContainsStatus.class).filter(eq("_id", id)).first();
+        Assert.assertEquals(Status.CLOSED, loaded.status);
+        Assert.assertEquals(List.of(Status.ACTIVE, Status.SUSPENDED), loaded.statuses);
+    }
+
+    @Test(expected = MappingException.class)
+    public void testDuplicatedCodes() {
+        new EnumCodec<>(Duplicated.class);
+    }
+
+    @Test(expected = MappingException.class)
+    public void testUnknownCodedName() {
+        getMapper().map(ContainsStatus.class);
+        getDs().find(ContainsStatus.class).filter(eq("status", "PENDING")).count();
+    }
+
     enum Foo {
         BAR,
         BAZ
     }
 
+    enum Status {
+        @EnumCode(10)
+        ACTIVE,
+        @EnumCode(20)
+        SUSPENDED,
+        @EnumCode(1_000_000)
+        CLOSED
+    }
+
+    enum Duplicated {
+        @EnumCode(1)
+        FIRST,
+        @EnumCode(1)
+        SECOND
+    }
+
     public enum WebTemplateType {
         CrewContract("Contract"),
         CrewContractHeader("Contract Header");
@@ -165,6 +231,14 @@ public class EnumMappingTest extends TestBase {
         private Foo foo = Foo.BAR;
     }
 
+    @Entity
+    public static class ContainsStatus {
+        @Id
+        private ObjectId id;
+        private Status status = Status.ACTIVE;
+        private List<Status> statuses;
+    }
+
     @Entity(useDiscriminator = false)
     public static class Customer {
         private final Map<WebTemplateType, WebTemplate> map = new HashMap<>();
@@ -0,0 +1,159 @@
+package dev.morphia.mapping;
+
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.TestBase;
+import dev.morphia.annotations.AlsoLoad;
+import dev.morphia.annotations.Embedded;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Indexed;
+import dev.morphia.annotations.Property;
+import dev.morphia.experimental.FieldAliasMigration;
+import dev.morphia.query.FindOptions;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+
+public class FieldAliasTest extends TestBase {
+    @Test
+    public void aliases() {
+        Datastore datastore = aliasing();
+        MappedClass mappedClass = datastore.getMapper().getMappedClass(Reading.class);
+        String sensor = mappedClass.getMappedFieldByJavaField("sensor").getMappedFieldName();
+        String value = mappedClass.getMappedFieldByJavaField("value").getMappedFieldName();
+        Assert.assertTrue(sensor.length() <= 2);
+        Assert.assertTrue(value.length() <= 2);
+        Assert.assertNotEquals(sensor, value);
+        Assert.assertEquals("ts", mappedClass.getMappedFieldByJavaField("timestamp").getMappedFieldName());
+        Assert.assertEquals("_id", mappedClass.getIdField().getMappedFieldName());
+
+        Reading reading = new Reading();
+        reading.sensor = "s1";
+        reading.value = 21.5;
+        reading.timestamp = 1000L;
+        datastore.save(reading);
+
+        Document document = getDocumentCollection(Reading.class).find().first();
+        Assert.assertEquals("s1", document.get(sensor));
+        Assert.assertEquals(21.5, document.get(value));
+        Assert.assertEquals(1000L, document.get("ts"));
+
+        Reading loaded = datastore.find(Reading.class)
+                                  .filter(eq("sensor", "s1"))
+                                  .iterator(new FindOptions().projection().include("sensor"))
+                                  .next();
+        Assert.assertEquals("s1", loaded.sensor);
+        Assert.assertNull(loaded.timestamp);
+
+        datastore.ensureIndexes(Reading.class);
+        Assert.assertTrue(getIndexInfo(Reading.class).stream()
+                                                     .anyMatch(index -> ((Document) index.get("key")).containsKey(sensor)));
+
+        Map<String, String> aliases = ((AliasNamingStrategy) datastore.getMapper().getOptions().getFieldNaming())
+                                          .getAliases(datastore, mappedClass.getCollectionName());
+        Assert.assertEquals(Map.of("sensor", sensor, "value", value), aliases);
+        Assert.assertEquals(sensor, aliasing().getMapper().getMappedClass(Reading.class)
+                                              .getMappedFieldByJavaField("sensor").getMappedFieldName());
+
+        Datastore shared = Morphia.createDatastore(datastore, TEST_DB_NAME + "_aliases");
+        Assert.assertEquals(aliases, ((AliasNamingStrategy) shared.getMapper().getOptions().getFieldNaming())
+                                         .getAliases(shared, mappedClass.getCollectionName()));
+    }
+
+    @Test
+    public void embeddedFieldsKeepTheirNames() {
+        Datastore datastore = aliasing();
+        datastore.getMapper().map(Room.class);
+        Room room = new Room();
+        room.location = new Location();
+        room.location.floor = 3;
+        datastore.save(room);
+
+        String location = datastore.getMapper().getMappedClass(Room.class).getMappedFieldByJavaField("location").getMappedFieldName();
+        Document document = getDocumentCollection(Room.class).find().first();
+        Assert.assertEquals(3, ((Document) document.get(location)).get("floor"));
+    }
+
+    @Test
+    public void reservedNames() {
+        Datastore datastore = aliasing();
+        MappedClass mappedClass = datastore.getMapper().map(Tagged.class).get(0);
+        Set<String> names = new HashSet<>();
+        for (final MappedField field : mappedClass.getFields()) {
+            names.add(field.getMappedFieldName());
+        }
+        Assert.assertEquals(Set.of("_id", "a", "d", "e"), names);
+    }
+
+    @Test
+    public void migrate() throws Exception {
+        Datastore datastore = aliasing();
+        ObjectId id = new ObjectId();
+        getDocumentCollection(Reading.class).insertOne(new Document("_id", id)
+                                                           .append("sensor", "s2")
+                                                           .append("value", 2.0)
+                                                           .append("ts", 5L));
+
+        Assert.assertEquals(Long.valueOf(1), new FieldAliasMigration(datastore, Reading.class).call());
+        Document document = getDocumentCollection(Reading.class).find().first();
+        Assert.assertFalse(document.containsKey("sensor"));
+        Assert.assertEquals(5L, document.get("ts"));
+
+        Reading loaded = datastore.find(Reading.class).filter(eq("_id", id)).first();
+        Assert.assertEquals("s2", loaded.sensor);
+        Assert.assertEquals(2.0, loaded.value, 0.0);
+        Assert.assertEquals(Long.valueOf(5), loaded.timestamp);
+        Assert.assertEquals(Long.valueOf(0), new FieldAliasMigration(datastore, Reading.class).call());
+    }
+
+    private Datastore aliasing() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .fieldNaming(NamingStrategy.aliases())
+                         .build());
+        datastore.getMapper().map(Reading.class);
+        return datastore;
+    }
+
+    @Entity("rooms")
+    private static class Room {
+        @Id
+        private ObjectId id;
+        private Location location;
+    }
+
+    @Embedded
+    private static class Location {
+        private int floor;
+    }
+
+    @Entity(value = "tagged", discriminatorKey = "b")
+    private static class Tagged {
+        @Id
+        private ObjectId id;
+        @Property("a")
+        private String first;
+        @AlsoLoad("c")
+        private String second;
+        private String third;
+    }
+
+    @Entity("readings")
+    private static class Reading {
+        @Id
+        private ObjectId id;
+        @Indexed
+        private String sensor;
+        private double value;
+        @Property("ts")
+        private Long timestamp;
+    }
+}
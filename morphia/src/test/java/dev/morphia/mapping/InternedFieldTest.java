@@ -0,0 +1,76 @@
+package dev.morphia.mapping;
+
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Interned;
+import dev.morphia.mapping.codec.InternTable;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+public class InternedFieldTest extends TestBase {
+    @Test
+    public void capacity() throws NoSuchFieldException {
+        getMapper().map(Order.class);
+        Field field = Order.class.getDeclaredField("country");
+        Assert.assertSame(getMapper().getInternTable(Order.class, "country"), getMapper().getInternTable(field, 8));
+        Assert.assertEquals(16, getMapper().getInternTable(field, 16).getCapacity());
+        Assert.assertEquals(16, getMapper().getInternTable(Order.class, "country").getCapacity());
+    }
+
+    @Test
+    public void interned() {
+        getMapper().map(Order.class);
+        getDs().save(List.of(new Order("NZ", "NZD"), new Order("NZ", "NZD"), new Order("DE", "EUR"),
+            new Order("a country name far too long to intern", "NZD")));
+
+        List<Order> orders = getDs().find(Order.class).iterator().toList();
+        Assert.assertEquals(4, orders.size());
+        Order first = orders.stream().filter(o -> o.country.equals("NZ")).findFirst().get();
+        Order second = orders.stream().filter(o -> o.country.equals("NZ") && o != first).findFirst().get();
+        Assert.assertSame(first.country, second.country);
+        Assert.assertSame(first.currency, second.currency);
+        Assert.assertTrue(orders.stream().anyMatch(o -> o.country.equals("a country name far too long to intern")));
+
+        InternTable table = getMapper().getInternTable(Order.class, "country");
+        Assert.assertEquals(8, table.getCapacity());
+        Assert.assertTrue(table.getHits() > 0);
+        Assert.assertTrue(table.getSize() >= 2);
+        Assert.assertTrue(table.getHitRate() > 0);
+    }
+
+    @Test(expected = MappingException.class)
+    public void unsupportedType() {
+        getMapper().map(Unsupported.class);
+    }
+
+    @Entity
+    private static class Order {
+        @Id
+        private ObjectId id;
+        @Interned(capacity = 8, maxLength = 16)
+        private String country;
+        @Interned
+        private String currency;
+
+        Order() {
+        }
+
+        Order(final String country, final String currency) {
+            this.country = country;
+            this.currency = currency;
+        }
+    }
+
+    @Entity
+    private static class Unsupported {
+        @Id
+        private ObjectId id;
+        @Interned
+        private Integer code;
+    }
+}
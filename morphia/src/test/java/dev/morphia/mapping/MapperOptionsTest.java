@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.filters.Filters.ne;
 
 
@@ -163,6 +164,41 @@ public class MapperOptionsTest extends TestBase {
         Assert.assertEquals(HasMap.class.getSimpleName().toLowerCase(), mappedClass.getEntityModel().getDiscriminator());
     }
 
+    @Test
+    public void discriminatorAliases() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .discriminator(DiscriminatorFunction.aliases(Map.of(Circle.class, "1", Square.class, "2"),
+                             DiscriminatorFunction.simpleName()))
+                         .build());
+        datastore.getMapper().map(Shape.class, Circle.class, Square.class);
+        Assert.assertEquals("Shape", datastore.getMapper().getMappedClass(Shape.class).getEntityModel().getDiscriminator());
+        Assert.assertEquals("1", datastore.getMapper().getMappedClass(Circle.class).getEntityModel().getDiscriminator());
+
+        Circle circle = new Circle();
+        circle.radius = 2.5;
+        Square square = new Square();
+        square.side = 4;
+        datastore.save(List.of(circle, square));
+
+        Document document = getDocumentCollection(Shape.class).find(new Document("_id", circle.id)).first();
+        Assert.assertEquals(List.of("_id", "_t", "radius"), new ArrayList<>(document.keySet()));
+        Assert.assertEquals("1", document.get("_t"));
+
+        Shape loaded = datastore.find(Shape.class).filter(eq("_id", circle.id)).first();
+        Assert.assertEquals(circle.id, loaded.id);
+        Assert.assertEquals(2.5, ((Circle) loaded).radius, 0.0);
+        loaded = datastore.find(Shape.class).filter(eq("_id", square.id)).first();
+        Assert.assertEquals(square.id, loaded.id);
+        Assert.assertEquals(4, ((Square) loaded).side);
+        Assert.assertEquals(1, datastore.find(Circle.class).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicatedDiscriminatorAliases() {
+        DiscriminatorFunction.aliases(Map.of(Circle.class, "1", Square.class, "1"), DiscriminatorFunction.simpleName());
+    }
+
     @Test
     public void customDiscriminators() {
         List<MappedClass> classes = getDs().getMapper().map(EntityDiscriminator.class, EntityDiscriminator2.class);
@@ -347,6 +383,20 @@ public class MapperOptionsTest extends TestBase {
         private String name;
     }
 
+    @Entity("shapes")
+    private abstract static class Shape {
+        @Id
+        private ObjectId id;
+    }
+
+    private static class Circle extends Shape {
+        private double radius;
+    }
+
+    private static class Square extends Shape {
+        private int side;
+    }
+
     @Embedded(discriminatorKey = "_e", discriminator = "b")
     private static class EmbeddedDiscriminator {
     }
@@ -0,0 +1,96 @@
+package dev.morphia.mapping;
+
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Packed;
+import dev.morphia.experimental.PackedArrayMigration;
+import dev.morphia.mapping.codec.PackedArrayCodec;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+
+public class PackedArrayTest extends TestBase {
+    @Test
+    public void packed() {
+        getMapper().map(Series.class);
+        Series series = new Series();
+        series.points = new double[1536];
+        for (int i = 0; i < series.points.length; i++) {
+            series.points[i] = Math.sin(i);
+        }
+        series.counts = new int[]{1, -2, Integer.MAX_VALUE};
+        series.embedding = new float[]{0.25f, -1.5f};
+        getDs().save(series);
+
+        Document document = getDocumentCollection(Series.class).find().first();
+        Binary points = (Binary) document.get("points");
+        Assert.assertEquals(PackedArrayCodec.SUBTYPE.getValue(), points.getType());
+        Assert.assertEquals(5 + 1536 * Double.BYTES, points.length());
+
+        Series loaded = getDs().find(Series.class).filter(eq("_id", series.id)).first();
+        Assert.assertArrayEquals(series.points, loaded.points, 0.0);
+        Assert.assertArrayEquals(series.counts, loaded.counts);
+        Assert.assertArrayEquals(series.embedding, loaded.embedding, 0.0f);
+    }
+
+    @Test
+    public void migrate() throws Exception {
+        getMapper().map(Series.class);
+        ObjectId id = new ObjectId();
+        getDocumentCollection(Series.class).insertOne(new Document("_id", id)
+                                                          .append("points", List.of(1.5, 2.5))
+                                                          .append("counts", List.of(1, 2, 3)));
+
+        Series loaded = getDs().find(Series.class).filter(eq("_id", id)).first();
+        Assert.assertArrayEquals(new double[]{1.5, 2.5}, loaded.points, 0.0);
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, loaded.counts);
+
+        Assert.assertEquals(Long.valueOf(2), new PackedArrayMigration(getDs(), Series.class).call());
+        Document document = getDocumentCollection(Series.class).find().first();
+        Assert.assertTrue(document.get("points") instanceof Binary);
+        Assert.assertTrue(document.get("counts") instanceof Binary);
+
+        loaded = getDs().find(Series.class).filter(eq("_id", id)).first();
+        Assert.assertArrayEquals(new double[]{1.5, 2.5}, loaded.points, 0.0);
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, loaded.counts);
+        Assert.assertEquals(Long.valueOf(0), new PackedArrayMigration(getDs(), Series.class).call());
+    }
+
+    @Test(expected = MappingException.class)
+    public void corruptLength() {
+        // 0x40000000 ints would be 4GB and the byte count overflows to 0, matching the empty payload
+        PackedArrayCodec.unpack(new byte[]{'I', 0, 0, 0, 0x40}, int.class);
+    }
+
+    @Test(expected = MappingException.class)
+    public void unsupportedType() {
+        getMapper().map(Unsupported.class);
+    }
+
+    @Entity
+    private static class Series {
+        @Id
+        private ObjectId id;
+        @Packed
+        private double[] points;
+        @Packed
+        private int[] counts;
+        @Packed
+        private float[] embedding;
+    }
+
+    @Entity
+    private static class Unsupported {
+        @Id
+        private ObjectId id;
+        @Packed
+        private String[] names;
+    }
+}
@@ -0,0 +1,164 @@
+package dev.morphia.mapping.lazy;
+
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.experimental.ReferenceSnapshots;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+
+
+@Category(Reference.class)
+public class TestLazySnapshotReference extends ProxyTestBase {
+
+    @Test
+    public void testSnapshotStored() {
+        getMapper().map(Order.class, Customer.class);
+        Customer customer = new Customer("Alice", "gold", "alice@example.com");
+        getDs().save(customer);
+        Order order = new Order();
+        order.customer = customer;
+        getDs().save(order);
+
+        Document stored = (Document) getDocumentCollection(Order.class).find().first().get("customer");
+        Assert.assertEquals(customer.id, stored.get("_id"));
+        Assert.assertEquals("Alice", stored.get("name"));
+        Assert.assertEquals("gold", stored.get("status"));
+        Assert.assertFalse(stored.containsKey("email"));
+    }
+
+    @Test
+    public void testSnapshotNestedReference() {
+        getMapper().map(Referral.class, Customer.class);
+        Customer referrer = new Customer("Bob", "silver", "bob@example.com");
+        getDs().save(referrer);
+        Customer customer = new Customer("Alice", "gold", "alice@example.com");
+        customer.referrer = referrer;
+        getDs().save(customer);
+        Referral referral = new Referral();
+        referral.customer = customer;
+        getDs().save(referral);
+
+        Document stored = (Document) getDocumentCollection(Referral.class).find().first().get("customer");
+        Assert.assertEquals("Alice", stored.get("name"));
+        Assert.assertEquals(referrer.id, stored.get("referrer"));
+    }
+
+    @Test
+    public void testSnapshotWithoutFetching() {
+        Assume.assumeTrue(LazyFeatureDependencies.assertProxyClassesPresent());
+        getMapper().map(Order.class, Customer.class);
+
+        Customer customer = new Customer("Alice", "gold", "alice@example.com");
+        getDs().save(customer);
+        Order order = new Order();
+        order.customer = customer;
+        order.others.add(customer);
+        getDs().save(order);
+
+        Order loaded = getDs().find(Order.class).filter(eq("_id", order.id)).first();
+        Customer proxy = loaded.customer;
+        assertIsProxy(proxy);
+        Assert.assertEquals("Alice", proxy.getName());
+        Assert.assertEquals("gold", proxy.getStatus());
+        Assert.assertEquals(customer.id, proxy.getId());
+        assertNotFetched(proxy);
+
+        Assert.assertEquals("alice@example.com", proxy.getEmail());
+        assertFetched(proxy);
+
+        Customer element = loaded.others.get(0);
+        assertIsProxy(element);
+        Assert.assertEquals("Alice", element.getName());
+        assertNotFetched(element);
+    }
+
+    @Test
+    public void testRefreshSnapshots() {
+        getMapper().map(Order.class, Customer.class);
+
+        Customer customer = new Customer("Alice", "gold", "alice@example.com");
+        getDs().save(customer);
+        Order order = new Order();
+        order.customer = customer;
+        order.others.add(customer);
+        getDs().save(order);
+
+        customer.name = "Alicia";
+        customer.status = null;
+        getDs().save(customer);
+
+        Assert.assertEquals(1, ReferenceSnapshots.refresh(getDs(), Order.class, "customer"));
+        Assert.assertEquals(1, ReferenceSnapshots.refresh(getDs(), Order.class, "others", List.of(customer)));
+
+        Document stored = getDocumentCollection(Order.class).find().first();
+        Document snapshot = (Document) stored.get("customer");
+        Assert.assertEquals("Alicia", snapshot.get("name"));
+        Assert.assertFalse(snapshot.containsKey("status"));
+        Assert.assertEquals("Alicia", ((List<Document>) stored.get("others")).get(0).get("name"));
+    }
+
+    @Entity("snapshot_orders")
+    private static class Order {
+        @Id
+        private ObjectId id;
+        @Reference(lazy = true, snapshot = {"name", "status"})
+        private Customer customer;
+        @Reference(lazy = true, snapshot = "name")
+        private List<Customer> others = new ArrayList<>();
+    }
+
+    @Entity("snapshot_referrals")
+    private static class Referral {
+        @Id
+        private ObjectId id;
+        @Reference(snapshot = {"name", "referrer"})
+        private Customer customer;
+    }
+
+    @Entity("snapshot_customers")
+    public static class Customer {
+        @Id
+        private ObjectId id;
+        private String name;
+        private String status;
+        private String email;
+        @Reference
+        private Customer referrer;
+
+        public Customer() {
+        }
+
+        Customer(final String name, final String status, final String email) {
+            this.name = name;
+            this.status = status;
+            this.email = email;
+        }
+
+        public ObjectId getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+}
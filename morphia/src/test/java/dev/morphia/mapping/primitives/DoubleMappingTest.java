@@ -4,6 +4,7 @@ package dev.morphia.mapping.primitives;
 import dev.morphia.TestBase;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
 import org.junit.Test;
@@ -48,6 +49,29 @@ public class DoubleMappingTest extends TestBase {
         Assert.assertArrayEquals(ent.nestedWrapperArray, loaded.nestedWrapperArray);
     }
 
+    @Test
+    public void testLargeAndMixedArrays() {
+        getMapper().map(Doubles.class);
+        final Doubles ent = new Doubles();
+        ent.primitiveArray = new double[10_000];
+        for (int i = 0; i < ent.primitiveArray.length; i++) {
+            ent.primitiveArray[i] = i / 3.0;
+        }
+        getDs().save(ent);
+
+        Doubles loaded = getDs().find(Doubles.class)
+                                .filter(eq("_id", ent.id))
+                                .first();
+        Assert.assertArrayEquals(ent.primitiveArray, loaded.primitiveArray, 0.0);
+
+        getMapper().getCollection(Doubles.class).withDocumentClass(Document.class)
+                   .updateOne(new Document("_id", ent.id), new Document("$set", new Document("primitiveArray", List.of(1, 2L, 3.5))));
+        loaded = getDs().find(Doubles.class)
+                        .filter(eq("_id", ent.id))
+                        .first();
+        Assert.assertArrayEquals(new double[]{1.0, 2.0, 3.5}, loaded.primitiveArray, 0.0);
+    }
+
     @Entity
     private static class Doubles {
         private final List<Double[]> listWrapperArray = new ArrayList<>();
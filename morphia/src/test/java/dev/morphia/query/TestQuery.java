@@ -23,6 +23,8 @@ import dev.morphia.annotations.Indexed;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.experimental.Constructor;
+import dev.morphia.annotations.experimental.Name;
 import dev.morphia.mapping.ReferenceTest.ChildId;
 import dev.morphia.mapping.ReferenceTest.Complex;
 import dev.morphia.query.internal.MorphiaCursor;
@@ -37,6 +39,7 @@ import org.junit.experimental.categories.Category;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +49,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.mongodb.client.model.Collation.builder;
 import static dev.morphia.query.Sort.ascending;
@@ -65,6 +70,7 @@ import static dev.morphia.query.experimental.filters.Filters.regex;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.copyOfRange;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static java.util.regex.Pattern.compile;
 import static java.util.regex.Pattern.quote;
 import static org.bson.Document.parse;
@@ -349,6 +355,36 @@ public class TestQuery extends TestBase {
         assertEquals(3, q.count());
     }
 
+    @Test
+    public void testColumns() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(2, 20), new Rectangle(3, 30)));
+
+        Columns columns = getDs().find(Rectangle.class)
+                                 .filter(gte("height", 2))
+                                 .columns(new FindOptions().sort(ascending("height")), "height", "width");
+
+        assertEquals(2, columns.size());
+        assertEquals(asList("height", "width"), columns.getNames());
+        assertArrayEquals(new double[]{2, 3}, columns.getDoubles("height"), 0);
+        assertArrayEquals(new double[]{20, 30}, columns.getDoubles("width"), 0);
+        assertFalse(columns.isNull("width", 1));
+    }
+
+    @Test
+    public void testDictionaryColumns() {
+        getDs().save(asList(new HasKeyword(new Keyword("a", 1)), new HasKeyword(new Keyword("b", 2)), new HasKeyword(new Keyword("a", 3)),
+            new HasKeyword(new Keyword(4))));
+
+        Columns columns = getDs().find(HasKeyword.class).columns(new FindOptions().sort(ascending("keyword.score")), "keyword.keyword",
+            "keyword.score");
+
+        assertEquals(4, columns.size());
+        assertEquals(asList("a", "b"), columns.getDictionary("keyword.keyword"));
+        assertArrayEquals(new int[]{0, 1, 0, -1}, columns.getCodes("keyword.keyword"));
+        assertTrue(columns.isNull("keyword.keyword", 3));
+        assertArrayEquals(new int[]{1, 2, 3, 4}, columns.getInts("keyword.score"));
+    }
+
     @Test
     public void testCommentsShowUpInLogs() {
         getDs().save(asList(new Pic("pic1"), new Pic("pic2"), new Pic("pic3"), new Pic("pic4")));
@@ -852,6 +888,201 @@ public class TestQuery extends TestBase {
                                .size());
     }
 
+    @Test
+    public void testPage() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            rectangles.add(new Rectangle(i % 5, i));
+        }
+        getDs().save(rectangles);
+
+        Query<Rectangle> query = getDs().find(Rectangle.class)
+                                        .filter(gte("width", 3));
+        List<Rectangle> seen = new ArrayList<>();
+        PageRequest request = new PageRequest(4)
+                                  .options(new FindOptions().sort(descending("height")));
+        int pages = 0;
+        while (request != null) {
+            Page<Rectangle> page = query.page(request);
+            assertTrue(page.getResults().size() <= 4);
+            seen.addAll(page.getResults());
+            request = page.next();
+            pages++;
+        }
+
+        assertEquals(22, seen.size());
+        assertEquals(6, pages);
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).getHeight() >= seen.get(i).getHeight());
+        }
+        assertEquals(22, seen.stream().map(Rectangle::getWidth).distinct().count());
+        assertEquals(22, query.count());
+    }
+
+    @Test
+    public void testPageWithNullSortValues() {
+        getDs().save(asList(new Pic("a"), new Pic(null), new Pic("b"), new Pic(null), new Pic("c"), new Pic(null)));
+
+        FindOptions excluding = new FindOptions().sort(ascending("name")).projection().exclude("name");
+        for (final FindOptions options : asList(new FindOptions().sort(ascending("name")), new FindOptions().sort(descending("name")),
+            excluding)) {
+            List<ObjectId> seen = new ArrayList<>();
+            PageRequest request = new PageRequest(2).options(options);
+            while (request != null) {
+                Page<Pic> page = getDs().find(Pic.class).page(request);
+                page.getResults().forEach(pic -> seen.add(pic.getId()));
+                request = page.next();
+            }
+            assertEquals(options.toString(), 6, seen.stream().distinct().count());
+            assertEquals(options.toString(), 6, seen.size());
+        }
+        assertEquals(0, excluding.getProjection().map(getMapper(), Pic.class).get("name"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageWithForeignContinuation() {
+        getDs().save(asList(new Rectangle(1, 1), new Rectangle(2, 2), new Rectangle(3, 3)));
+
+        Page<Rectangle> page = getDs().find(Rectangle.class).page(new PageRequest(1));
+        getDs().find(Rectangle.class).page(new PageRequest(1)
+                                               .options(new FindOptions().sort(ascending("width")))
+                                               .after(page.getContinuation()));
+    }
+
+    @Test
+    public void testParallelDecode() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rectangles.add(new Rectangle(i, i + 1));
+        }
+        getDs().save(rectangles);
+
+        List<Rectangle> results = getDs().find(Rectangle.class).iterator(new FindOptions()
+                                                                             .sort(ascending("height"))
+                                                                             .batchSize(7)
+                                                                             .parallelDecode(16))
+                                         .toList();
+
+        assertEquals(100, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getHeight(), 0);
+            assertEquals(i + 1, results.get(i).getWidth(), 0);
+        }
+
+        assertEquals(new FindOptions().parallelDecode(16), new FindOptions().copy(new FindOptions().parallelDecode(16)));
+    }
+
+    @Test
+    public void testStream() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rectangles.add(new Rectangle(i, i + 1));
+        }
+        getDs().save(rectangles);
+
+        try (Stream<Rectangle> stream = getDs().find(Rectangle.class).stream(new FindOptions().limit(42))) {
+            assertEquals(42, stream.spliterator().estimateSize());
+        }
+        try (Stream<Rectangle> stream = getDs().find(Rectangle.class).stream(new FindOptions().limit(42))) {
+            assertEquals(42, stream.count());
+        }
+        try (Stream<Rectangle> stream = getDs().find(Rectangle.class).stream(new FindOptions().batchSize(10))) {
+            assertEquals(IntStream.range(0, 100).sum(), stream.parallel()
+                                                              .mapToInt(r -> (int) r.getHeight())
+                                                              .sum());
+        }
+        try (Stream<Rectangle> stream = getDs().find(Rectangle.class)
+                                               .filter(gte("height", 50))
+                                               .stream(new FindOptions().sort(ascending("height")))) {
+            assertEquals(50, stream.findFirst().get().getHeight(), 0);
+        }
+    }
+
+    @Test
+    public void testPartitioned() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rectangles.add(new Rectangle(i, i));
+        }
+        getDs().save(rectangles);
+
+        List<MorphiaCursor<Rectangle>> cursors = getDs().find(Rectangle.class)
+                                                        .filter(gte("height", 10))
+                                                        .partitioned(4);
+        assertEquals(4, cursors.size());
+
+        List<Double> heights = cursors.parallelStream()
+                                      .flatMap(cursor -> cursor.toList().stream())
+                                      .map(Rectangle::getHeight)
+                                      .sorted()
+                                      .collect(toList());
+        assertEquals(90, heights.size());
+        assertEquals(90, new HashSet<>(heights).size());
+        assertEquals(10, heights.get(0), 0);
+
+        cursors = getDs().find(Rectangle.class).partitioned("width", 5, new FindOptions());
+        int total = 0;
+        for (final MorphiaCursor<Rectangle> cursor : cursors) {
+            List<Rectangle> partition = cursor.toList();
+            assertTrue(partition.size() < 100);
+            total += partition.size();
+        }
+        assertEquals(100, total);
+    }
+
+    @Test
+    public void testProjectedTypes() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(2, 20), new Rectangle(3, 30)));
+
+        List<RectangleHeight> heights = getDs().find(Rectangle.class)
+                                               .project(RectangleHeight.class, new FindOptions().sort(ascending("height")))
+                                               .toList();
+        assertEquals(3, heights.size());
+        assertEquals(1, heights.get(0).getHeight(), 0);
+        assertEquals(3, heights.get(2).getHeight(), 0);
+
+        List<RectangleSize> sizes = getDs().find(Rectangle.class)
+                                           .filter(gte("width", 20))
+                                           .project(RectangleSize.class, new FindOptions().sort(ascending("width")))
+                                           .toList();
+        assertEquals(2, sizes.size());
+        assertNotNull(sizes.get(0).id);
+        assertEquals(2, sizes.get(0).height, 0);
+        assertEquals(20, sizes.get(0).width, 0);
+
+        List<RectangleWidth> widths = getDs().find(Rectangle.class)
+                                             .project(RectangleWidth.class, new FindOptions().sort(descending("width")))
+                                             .toList();
+        assertEquals(30L, widths.get(0).width);
+    }
+
+    @Test
+    public void testPrefetch() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rectangles.add(new Rectangle(i, i + 1));
+        }
+        getDs().save(rectangles);
+
+        List<Rectangle> results = getDs().find(Rectangle.class).iterator(new FindOptions()
+                                                                             .sort(ascending("height"))
+                                                                             .batchSize(7)
+                                                                             .prefetch(2))
+                                         .toList();
+
+        assertEquals(100, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getHeight(), 0);
+        }
+
+        MorphiaCursor<Rectangle> cursor = getDs().find(Rectangle.class).iterator(new FindOptions()
+                                                                                     .batchSize(7)
+                                                                                     .prefetch(2));
+        assertNotNull(cursor.next());
+        cursor.close();
+        assertFalse(cursor.hasNext());
+    }
+
     @Test
     public void testNoLifeCycleEventsOnParameters() {
         final ContainsPic cpk = new ContainsPic();
@@ -1455,6 +1686,20 @@ public class TestQuery extends TestBase {
         }
     }
 
+    @Entity
+    public static class HasKeyword {
+        @Id
+        private ObjectId id;
+        private Keyword keyword;
+
+        protected HasKeyword() {
+        }
+
+        HasKeyword(final Keyword keyword) {
+            this.keyword = keyword;
+        }
+    }
+
     @Entity
     private static class HasPhotoReference {
         @Id
@@ -1715,6 +1960,25 @@ public class TestQuery extends TestBase {
         }
     }
 
+    interface RectangleHeight {
+        double getHeight();
+    }
+
+    private static class RectangleSize {
+        private ObjectId id;
+        private double height;
+        private double width;
+    }
+
+    private static class RectangleWidth {
+        private final long width;
+
+        @Constructor
+        RectangleWidth(@Name("width") final long width) {
+            this.width = width;
+        }
+    }
+
     @Entity
     static class ReferenceKey {
         @Id